@@ -0,0 +1,240 @@
+package org.example;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * A lock-free, multi-producer, single-consumer append-only log of elements.
+ * <p>
+ * Producers claim slots by a compare-and-set on the {@code tail} counter and
+ * then write their element into a chunk without taking any lock. A slot is
+ * <em>committed</em> once its element has been published with release
+ * semantics; {@code null} marks a slot that has been claimed but not yet
+ * written, which is why {@code null} elements are rejected.
+ * <p>
+ * A single consumer thread drains committed elements in order with
+ * {@link #drainTo(CustomList)} or {@link #drain(int, Consumer)}. Draining
+ * stops at the first slot that is not yet committed. Fully drained chunks
+ * are released, and their directory slots are reused for later chunks, so
+ * the log can run indefinitely while holding at most
+ * {@code maxChunks << chunkShift} undrained elements. When that window is
+ * full, {@link #offer} returns {@code false} and {@link #add} throws.
+ *
+ * @param <S> the type of elements in this log
+ */
+public class AppendOnlyCustomList<S> {
+
+    /**
+     * Default number of index bits addressing an element inside a chunk,
+     * giving chunks of 4096 elements.
+     */
+    private static final int DEFAULT_CHUNK_SHIFT = 12;
+
+    /**
+     * Default number of chunks that may be live at the same time.
+     */
+    private static final int DEFAULT_MAX_CHUNKS = 1 << 10;
+
+    private static final VarHandle ELEMENTS = MethodHandles.arrayElementVarHandle(Object[].class);
+
+    private final int chunkShift;
+
+    private final int chunkMask;
+
+    private final int directoryMask;
+
+    /**
+     * Ring of chunk slots. A slot is {@code null} until the first producer
+     * writing into that chunk installs it, and again after the consumer has
+     * drained the chunk.
+     */
+    private final AtomicReferenceArray<Object[]> directory;
+
+    /**
+     * The number of slots ever claimed by producers.
+     */
+    private final AtomicLong tail = new AtomicLong();
+
+    /**
+     * The number of elements ever drained by the consumer. Only written by
+     * the consumer thread.
+     */
+    private volatile long head;
+
+    /**
+     * Constructs an empty log with chunks of 4096 elements and room for
+     * 1024 undrained chunks.
+     */
+    public AppendOnlyCustomList() {
+        this(DEFAULT_CHUNK_SHIFT, DEFAULT_MAX_CHUNKS);
+    }
+
+    /**
+     * Constructs an empty log with chunks of {@code 1 << chunkShift}
+     * elements and room for {@code maxChunks} undrained chunks.
+     *
+     * @throws IllegalArgumentException if chunkShift is not between 1 and 30
+     *                                  or maxChunks is not a positive power
+     *                                  of two
+     */
+    public AppendOnlyCustomList(int chunkShift, int maxChunks) {
+        if (chunkShift < 1 || chunkShift > 30) {
+            throw new IllegalArgumentException("Illegal chunk shift: " + chunkShift);
+        }
+        if (maxChunks <= 0 || Integer.bitCount(maxChunks) != 1) {
+            throw new IllegalArgumentException("Illegal max chunks: " + maxChunks);
+        }
+        this.chunkShift = chunkShift;
+        this.chunkMask = (1 << chunkShift) - 1;
+        this.directoryMask = maxChunks - 1;
+        this.directory = new AtomicReferenceArray<>(maxChunks);
+    }
+
+    // Producer side
+
+    /**
+     * Appends the specified element to this log.
+     *
+     * @throws IllegalStateException if the log holds the maximum number of
+     *                               undrained elements
+     * @throws NullPointerException  if the specified element is null
+     */
+    public void add(S element) {
+        if (!offer(element))
+            throw new IllegalStateException("Log is full");
+    }
+
+    /**
+     * Appends the specified element to this log if there is room for it.
+     *
+     * @return {@code true} if the element was appended, {@code false} if the
+     * log holds the maximum number of undrained elements
+     * @throws NullPointerException if the specified element is null
+     */
+    public boolean offer(S element) {
+        Objects.requireNonNull(element);
+        long t = claim(1);
+        if (t < 0)
+            return false;
+        publish(t, element);
+        return true;
+    }
+
+    /**
+     * Appends all of the specified elements to this log as one contiguous
+     * run, claiming all of their slots with a single compare-and-set.
+     *
+     * @return {@code true} if the elements were appended, {@code false} if
+     * there is not enough room for all of them
+     * @throws NullPointerException if any of the elements is null
+     */
+    @SafeVarargs
+    public final boolean offerAll(S... elements) {
+        for (S e : elements)
+            Objects.requireNonNull(e);
+        if (elements.length == 0)
+            return true;
+        long t = claim(elements.length);
+        if (t < 0)
+            return false;
+        for (S e : elements)
+            publish(t++, e);
+        return true;
+    }
+
+    /**
+     * Claims {@code n} consecutive slots, or returns -1 if they would not fit
+     * into the window of chunks that have not been drained yet.
+     */
+    private long claim(int n) {
+        final AtomicLong tail = this.tail;
+        for (; ; ) {
+            long t = tail.get();
+            long next = t + n;
+            if (((next - 1) >>> chunkShift) - (head >>> chunkShift) > directoryMask)
+                return -1;
+            if (tail.compareAndSet(t, next))
+                return t;
+        }
+    }
+
+    private void publish(long index, S element) {
+        int slot = (int) (index >>> chunkShift) & directoryMask;
+        Object[] chunk = directory.get(slot);
+        if (chunk == null) {
+            Object[] fresh = new Object[1 << chunkShift];
+            chunk = directory.compareAndExchange(slot, null, fresh);
+            if (chunk == null)
+                chunk = fresh;
+        }
+        ELEMENTS.setRelease(chunk, (int) index & chunkMask, element);
+    }
+
+    // Consumer side
+
+    /**
+     * Moves all currently committed elements, in order, to the end of the
+     * specified list. The target is presized once for the whole batch.
+     * Must only be called from the single consumer thread.
+     *
+     * @return the number of elements drained
+     */
+    public int drainTo(CustomList<? super S> target) {
+        long pending = tail.get() - head;
+        target.ensureCapacity((int) Math.min(target.size() + pending, CustomList.SOFT_MAX_ARRAY_LENGTH));
+        return drain(Integer.MAX_VALUE, target::add);
+    }
+
+    /**
+     * Hands at most {@code maxElements} committed elements, in order, to the
+     * specified consumer. Must only be called from the single consumer
+     * thread.
+     *
+     * @return the number of elements drained
+     */
+    @SuppressWarnings("unchecked")
+    public int drain(int maxElements, Consumer<? super S> consumer) {
+        Objects.requireNonNull(consumer);
+        long h = head;
+        final long t = tail.get();
+        int n = 0;
+        try {
+            while (n < maxElements && h < t) {
+                int slot = (int) (h >>> chunkShift) & directoryMask;
+                Object[] chunk = directory.get(slot);
+                Object e;
+                if (chunk == null || (e = ELEMENTS.getAcquire(chunk, (int) h & chunkMask)) == null)
+                    break; // claimed but not yet committed
+                consumer.accept((S) e);
+                n++;
+                if ((++h & chunkMask) == 0) {
+                    // every slot of the chunk is committed and drained
+                    directory.set(slot, null);
+                    head = h;
+                }
+            }
+        } finally {
+            head = h;
+        }
+        return n;
+    }
+
+    /**
+     * Returns the number of elements that have been claimed but not yet
+     * drained. Some of them may not be committed yet.
+     */
+    public long pendingCount() {
+        return tail.get() - head;
+    }
+
+    /**
+     * Returns the number of elements drained so far.
+     */
+    public long drainedCount() {
+        return head;
+    }
+}
@@ -0,0 +1,398 @@
+package org.example;
+
+import java.util.*;
+
+/**
+ * A resizable list of {@code boolean} values packed 64 to a {@code long}
+ * word. This is the bit-packed sibling of {@link CustomList}: one flag costs
+ * one bit instead of a 4 or 8 byte reference, and counting, searching and
+ * the bulk logical operations work on a whole word per step.
+ * <p>
+ * The word array grows with the same policy as {@code CustomList.grow(int)}.
+ * Bits beyond {@link #size()} are always zero. Use {@link #boxed()} when a
+ * {@code List<Boolean>} is required for interop.
+ */
+public class BooleanCustomList {
+
+    private static final int ADDRESS_BITS_PER_WORD = 6;
+
+    private static final int BITS_PER_WORD = 1 << ADDRESS_BITS_PER_WORD;
+
+    private static final long WORD_MASK = 0xFFFFFFFFFFFFFFFFL;
+
+    /**
+     * Shared empty array instance used for empty instances.
+     */
+    private static final long[] EMPTY_WORDS = {};
+
+    /**
+     * The words into which the values of the list are packed; value
+     * {@code i} is bit {@code i % 64} of word {@code i / 64}.
+     */
+    transient long[] words; // non-private to simplify nested class access
+
+    /**
+     * The size of the list (the number of values it contains).
+     */
+    private int size;
+
+    /**
+     * Constructs an empty list.
+     */
+    public BooleanCustomList() {
+        this.words = EMPTY_WORDS;
+    }
+
+    /**
+     * Constructs an empty list with room for the specified number of values.
+     *
+     * @throws IllegalArgumentException if the specified initial capacity
+     *                                  is negative
+     */
+    public BooleanCustomList(int initialCapacity) {
+        if (initialCapacity < 0)
+            throw new IllegalArgumentException("Illegal Capacity: " + initialCapacity);
+        this.words = initialCapacity == 0 ? EMPTY_WORDS : new long[wordsFor(initialCapacity)];
+    }
+
+    /**
+     * Returns a list of {@code size} values that are all {@code false}.
+     */
+    public static BooleanCustomList ofSize(int size) {
+        BooleanCustomList list = new BooleanCustomList(size);
+        list.size = size;
+        return list;
+    }
+
+    private static int wordIndex(int bitIndex) {
+        return bitIndex >> ADDRESS_BITS_PER_WORD;
+    }
+
+    /**
+     * Returns the number of words needed for {@code bits} values, zero for
+     * zero values.
+     */
+    private static int wordsFor(int bits) {
+        return wordIndex(bits - 1) + 1;
+    }
+
+    private void checkRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || fromIndex > toIndex || toIndex > size)
+            throw new IndexOutOfBoundsException("fromIndex: " + fromIndex + ", toIndex: " + toIndex
+                    + ", Size: " + size);
+    }
+
+    /**
+     * Appends the specified value to the end of this list.
+     */
+    public void add(boolean value) {
+        final int s = size;
+        long[] words = this.words;
+        if (wordIndex(s) == words.length)
+            words = grow(s + 1);
+        if (value)
+            words[wordIndex(s)] |= 1L << s;
+        size = s + 1;
+    }
+
+    /**
+     * Returns the value at the specified position in this list.
+     *
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public boolean get(int index) {
+        Objects.checkIndex(index, size);
+        return (words[wordIndex(index)] & (1L << index)) != 0;
+    }
+
+    /**
+     * Replaces the value at the specified position in this list.
+     *
+     * @return the value previously at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public boolean set(int index, boolean value) {
+        Objects.checkIndex(index, size);
+        int w = wordIndex(index);
+        long bit = 1L << index;
+        boolean oldValue = (words[w] & bit) != 0;
+        if (value)
+            words[w] |= bit;
+        else
+            words[w] &= ~bit;
+        return oldValue;
+    }
+
+    /**
+     * Sets the values from {@code fromIndex} (inclusive) to {@code toIndex}
+     * (exclusive) to {@code true}.
+     *
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     */
+    public void set(int fromIndex, int toIndex) {
+        checkRange(fromIndex, toIndex);
+        if (fromIndex == toIndex)
+            return;
+        final long[] ws = words;
+        int startWord = wordIndex(fromIndex), endWord = wordIndex(toIndex - 1);
+        long firstMask = WORD_MASK << fromIndex, lastMask = WORD_MASK >>> -toIndex;
+        if (startWord == endWord) {
+            ws[startWord] |= firstMask & lastMask;
+        } else {
+            ws[startWord] |= firstMask;
+            Arrays.fill(ws, startWord + 1, endWord, WORD_MASK);
+            ws[endWord] |= lastMask;
+        }
+    }
+
+    /**
+     * Sets the values from {@code fromIndex} (inclusive) to {@code toIndex}
+     * (exclusive) to {@code false}.
+     *
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     */
+    public void clear(int fromIndex, int toIndex) {
+        checkRange(fromIndex, toIndex);
+        if (fromIndex == toIndex)
+            return;
+        final long[] ws = words;
+        int startWord = wordIndex(fromIndex), endWord = wordIndex(toIndex - 1);
+        long firstMask = WORD_MASK << fromIndex, lastMask = WORD_MASK >>> -toIndex;
+        if (startWord == endWord) {
+            ws[startWord] &= ~(firstMask & lastMask);
+        } else {
+            ws[startWord] &= ~firstMask;
+            Arrays.fill(ws, startWord + 1, endWord, 0L);
+            ws[endWord] &= ~lastMask;
+        }
+    }
+
+    /**
+     * Returns the number of values in this list.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns {@code true} if this list contains no values.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes all of the values from this list. The capacity is retained.
+     */
+    public void clear() {
+        Arrays.fill(words, 0, wordsFor(size), 0L);
+        size = 0;
+    }
+
+    /**
+     * Returns the number of values in this list that are {@code true}.
+     */
+    public int cardinality() {
+        final long[] ws = words;
+        int n = 0;
+        for (int i = 0, end = wordsFor(size); i < end; i++)
+            n += Long.bitCount(ws[i]);
+        return n;
+    }
+
+    /**
+     * Returns the index of the first {@code true} value at or after
+     * {@code fromIndex}, or -1 if there is none.
+     *
+     * @throws IndexOutOfBoundsException if {@code fromIndex} is negative
+     */
+    public int nextSetBit(int fromIndex) {
+        if (fromIndex < 0)
+            throw new IndexOutOfBoundsException("fromIndex < 0: " + fromIndex);
+        if (fromIndex >= size)
+            return -1;
+        final long[] ws = words;
+        int u = wordIndex(fromIndex);
+        long word = ws[u] & (WORD_MASK << fromIndex);
+        for (int end = wordsFor(size); ; ) {
+            if (word != 0)
+                return u * BITS_PER_WORD + Long.numberOfTrailingZeros(word);
+            if (++u == end)
+                return -1;
+            word = ws[u];
+        }
+    }
+
+    /**
+     * Returns the index of the first {@code false} value at or after
+     * {@code fromIndex}, or -1 if there is none.
+     *
+     * @throws IndexOutOfBoundsException if {@code fromIndex} is negative
+     */
+    public int nextClearBit(int fromIndex) {
+        if (fromIndex < 0)
+            throw new IndexOutOfBoundsException("fromIndex < 0: " + fromIndex);
+        if (fromIndex >= size)
+            return -1;
+        final long[] ws = words;
+        int u = wordIndex(fromIndex);
+        long word = ~ws[u] & (WORD_MASK << fromIndex);
+        for (int end = wordsFor(size); ; ) {
+            if (word != 0) {
+                int index = u * BITS_PER_WORD + Long.numberOfTrailingZeros(word);
+                return index < size ? index : -1;
+            }
+            if (++u == end)
+                return -1;
+            word = ~ws[u];
+        }
+    }
+
+    /**
+     * Performs a logical AND of this list with the other list. Positions
+     * beyond the end of the other list count as {@code false}, so they are
+     * cleared in this list. The size of this list does not change.
+     */
+    public void and(BooleanCustomList other) {
+        final long[] ws = words, os = other.words;
+        int common = Math.min(wordsFor(size), wordsFor(other.size));
+        for (int i = 0; i < common; i++)
+            ws[i] &= os[i];
+        Arrays.fill(ws, common, wordsFor(size), 0L);
+    }
+
+    /**
+     * Performs a logical OR of this list with the other list, over the
+     * positions present in both lists. The size of this list does not
+     * change.
+     */
+    public void or(BooleanCustomList other) {
+        final long[] ws = words, os = other.words;
+        int common = Math.min(wordsFor(size), wordsFor(other.size));
+        for (int i = 0; i < common; i++)
+            ws[i] |= os[i];
+        clearTail();
+    }
+
+    /**
+     * Clears every value of this list whose position is {@code true} in the
+     * other list. The size of this list does not change.
+     */
+    public void andNot(BooleanCustomList other) {
+        final long[] ws = words, os = other.words;
+        int common = Math.min(wordsFor(size), wordsFor(other.size));
+        for (int i = 0; i < common; i++)
+            ws[i] &= ~os[i];
+    }
+
+    /**
+     * Re-establishes the invariant that bits beyond {@code size} are zero.
+     */
+    private void clearTail() {
+        if ((size & (BITS_PER_WORD - 1)) != 0)
+            words[wordIndex(size)] &= WORD_MASK >>> -size;
+    }
+
+    /**
+     * Trims the capacity of this list to be the list's current size.
+     */
+    public void trimToSize() {
+        int needed = wordsFor(size);
+        if (needed < words.length)
+            words = needed == 0 ? EMPTY_WORDS : Arrays.copyOf(words, needed);
+    }
+
+    /**
+     * Increases the capacity of this list, if necessary, to ensure that it
+     * can hold at least the number of values specified by the minimum
+     * capacity argument.
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > 0 && wordsFor(minCapacity) > words.length)
+            grow(minCapacity);
+    }
+
+    private long[] grow(int minCapacity) {
+        return words = Arrays.copyOf(words, CustomList.newLength(words.length, wordsFor(minCapacity)));
+    }
+
+    /**
+     * Returns the words holding the values of this list; bits beyond
+     * {@link #size()} are zero.
+     */
+    public long[] toLongArray() {
+        return Arrays.copyOf(words, wordsFor(size));
+    }
+
+    /**
+     * Returns a {@code List<Boolean>} view backed by this list. Values are
+     * boxed on every access, so the view is meant for interop with APIs that
+     * require a {@code List}, not for hot loops. Changes to the view write
+     * through to this list.
+     */
+    public List<Boolean> boxed() {
+        return new BoxedView();
+    }
+
+    private class BoxedView extends AbstractList<Boolean> implements RandomAccess {
+        @Override
+        public Boolean get(int index) {
+            return BooleanCustomList.this.get(index);
+        }
+
+        @Override
+        public Boolean set(int index, Boolean element) {
+            return BooleanCustomList.this.set(index, element);
+        }
+
+        @Override
+        public boolean add(Boolean element) {
+            BooleanCustomList.this.add(element);
+            return true;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public void clear() {
+            BooleanCustomList.this.clear();
+        }
+    }
+
+    public boolean equals(Object o) {
+        if (o == this) {
+            return true;
+        }
+        if (!(o instanceof BooleanCustomList)) {
+            return false;
+        }
+        BooleanCustomList other = (BooleanCustomList) o;
+        int n = wordsFor(size);
+        return size == other.size && Arrays.equals(words, 0, n, other.words, 0, n);
+    }
+
+    public int hashCode() {
+        int hashCode = 1;
+        for (int i = 0; i < size; i++) {
+            hashCode = 31 * hashCode + Boolean.hashCode(get(i));
+        }
+        return hashCode;
+    }
+
+    public String toString() {
+        if (size == 0)
+            return "[]";
+
+        StringBuilder sb = new StringBuilder();
+        sb.append('[');
+        for (int i = 0; ; i++) {
+            sb.append(get(i));
+            if (i == size - 1)
+                return sb.append(']').toString();
+            sb.append(',').append(' ');
+        }
+    }
+}
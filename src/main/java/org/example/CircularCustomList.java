@@ -0,0 +1,305 @@
+package org.example;
+
+import java.util.*;
+
+/**
+ * A {@link CustomList} variant that stores its elements in a ring buffer.
+ * The first element lives at {@code head} and the following elements wrap
+ * around the end of {@code elementData}, so inserting or removing at either
+ * end of the list is O(1) instead of shifting the whole tail with
+ * {@code System.arraycopy}. An insertion or removal in the middle only
+ * shifts the elements on whichever side of the index is shorter.
+ * <p>
+ * This makes the list suitable for FIFO-style consumers that repeatedly call
+ * {@code remove(0)}. The backing array grows with the same policy as
+ * {@code CustomList.grow(int)}; growing also unwraps the elements so that
+ * the head is back at index zero.
+ *
+ * @param <S> the type of elements in this list
+ */
+public class CircularCustomList<S> extends AbstractList<S> implements RandomAccess {
+
+    /**
+     * Default initial capacity.
+     */
+    private static final int DEFAULT_CAPACITY = 10;
+
+    /**
+     * Shared empty array instance used for empty instances.
+     */
+    private static final Object[] EMPTY_ELEMENTDATA = {};
+
+    /**
+     * Shared empty array instance used for default sized empty instances.
+     */
+    private static final Object[] DEFAULTCAPACITY_EMPTY_ELEMENTDATA = {};
+
+    /**
+     * The ring buffer into which the elements of the list are stored.
+     */
+    transient Object[] elementData; // non-private to simplify nested class access
+
+    /**
+     * The index in {@code elementData} of the first element.
+     */
+    transient int head;
+
+    /**
+     * The size of the list (the number of elements it contains).
+     */
+    private int size;
+
+    /**
+     * Constructs an empty list with the specified initial capacity.
+     *
+     * @throws IllegalArgumentException if the specified initial capacity
+     *                                  is negative
+     */
+    public CircularCustomList(int initialCapacity) {
+        if (initialCapacity > 0) {
+            this.elementData = new Object[initialCapacity];
+        } else if (initialCapacity == 0) {
+            this.elementData = EMPTY_ELEMENTDATA;
+        } else {
+            throw new IllegalArgumentException("Illegal Capacity: " +
+                    initialCapacity);
+        }
+    }
+
+    /**
+     * Constructs an empty list with an initial capacity of ten.
+     */
+    public CircularCustomList() {
+        this.elementData = DEFAULTCAPACITY_EMPTY_ELEMENTDATA;
+    }
+
+    /**
+     * Constructs a list containing the elements of the specified collection,
+     * in the order they are returned by the collection's iterator.
+     */
+    public CircularCustomList(Collection<? extends S> c) {
+        Object[] a = c.toArray();
+        if ((size = a.length) != 0) {
+            elementData = Arrays.copyOf(a, size, Object[].class);
+        } else {
+            elementData = EMPTY_ELEMENTDATA;
+        }
+    }
+
+    private String outOfBoundsMsg(int index) {
+        return "Index: " + index + ", Size: " + size;
+    }
+
+    private void rangeCheckForAdd(int index) {
+        if (index > size || index < 0)
+            throw new IndexOutOfBoundsException(outOfBoundsMsg(index));
+    }
+
+    /**
+     * Maps a logical list index to its slot in {@code elementData}.
+     */
+    private static int slot(int head, int index, int length) {
+        int i = head + index;
+        return i - length >= 0 ? i - length : i;
+    }
+
+    private static int inc(int i, int length) {
+        return ++i >= length ? 0 : i;
+    }
+
+    private static int dec(int i, int length) {
+        return --i < 0 ? length - 1 : i;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public S get(int index) {
+        Objects.checkIndex(index, size);
+        final Object[] es = elementData;
+        return (S) es[slot(head, index, es.length)];
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public S set(int index, S element) {
+        Objects.checkIndex(index, size);
+        final Object[] es = elementData;
+        final int i = slot(head, index, es.length);
+        S oldValue = (S) es[i];
+        es[i] = element;
+        return oldValue;
+    }
+
+    @Override
+    public boolean add(S element) {
+        modCount++;
+        final int s;
+        Object[] es;
+        if ((s = size) == (es = elementData).length)
+            es = grow();
+        es[slot(head, s, es.length)] = element;
+        size = s + 1;
+        return true;
+    }
+
+    @Override
+    public void add(int index, S element) {
+        rangeCheckForAdd(index);
+        modCount++;
+        final int s;
+        Object[] es;
+        if ((s = size) == (es = elementData).length)
+            es = grow();
+        final int length = es.length;
+        if (index < s - index) {
+            // shift the front part one slot to the left
+            int h = head = dec(head, length);
+            for (int i = 0, from = inc(h, length); i < index; i++) {
+                es[h] = es[from];
+                h = from;
+                from = inc(from, length);
+            }
+            es[h] = element;
+        } else {
+            // shift the back part one slot to the right
+            int to = slot(head, s, length);
+            for (int i = s; i > index; i--) {
+                int from = dec(to, length);
+                es[to] = es[from];
+                to = from;
+            }
+            es[to] = element;
+        }
+        size = s + 1;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public S remove(int index) {
+        Objects.checkIndex(index, size);
+        modCount++;
+        final Object[] es = elementData;
+        final int length = es.length;
+        final int s = size;
+        int at = slot(head, index, length);
+        S oldValue = (S) es[at];
+        if (index < s - 1 - index) {
+            // close the gap by shifting the front part to the right
+            for (int i = index; i > 0; i--) {
+                int from = dec(at, length);
+                es[at] = es[from];
+                at = from;
+            }
+            es[at] = null;
+            head = inc(head, length);
+        } else {
+            // close the gap by shifting the back part to the left
+            for (int i = index + 1; i < s; i++) {
+                int from = inc(at, length);
+                es[at] = es[from];
+                at = from;
+            }
+            es[at] = null;
+        }
+        size = s - 1;
+        return oldValue;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public void clear() {
+        modCount++;
+        final Object[] es = elementData;
+        for (int to = size, i = size = 0, j = head; i < to; i++, j = inc(j, es.length))
+            es[j] = null;
+        head = 0;
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        final Object[] es = elementData;
+        for (int i = 0, j = head; i < size; i++, j = inc(j, es.length)) {
+            if (Objects.equals(o, es[j])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int lastIndexOf(Object o) {
+        final Object[] es = elementData;
+        for (int i = size - 1; i >= 0; i--) {
+            if (Objects.equals(o, es[slot(head, i, es.length)])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public Object[] toArray() {
+        return unwrap(size);
+    }
+
+    /**
+     * Increases the capacity of this list, if necessary, to ensure that it
+     * can hold at least the number of elements specified by the minimum
+     * capacity argument.
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > elementData.length
+                && !(elementData == DEFAULTCAPACITY_EMPTY_ELEMENTDATA
+                && minCapacity <= DEFAULT_CAPACITY)) {
+            grow(minCapacity);
+        }
+    }
+
+    /**
+     * Trims the capacity of this list to be the list's current size.
+     */
+    public void trimToSize() {
+        if (size < elementData.length) {
+            elementData = (size == 0) ? EMPTY_ELEMENTDATA : unwrap(size);
+            head = 0;
+        }
+    }
+
+    /**
+     * Copies the elements in list order into the start of a new array of the
+     * given length.
+     */
+    private Object[] unwrap(int length) {
+        final Object[] es = elementData;
+        final Object[] a = new Object[length];
+        int firstPart = Math.min(size, es.length - head);
+        System.arraycopy(es, head, a, 0, firstPart);
+        System.arraycopy(es, 0, a, firstPart, size - firstPart);
+        return a;
+    }
+
+    private Object[] grow(int minCapacity) {
+        int oldCapacity = elementData.length;
+        if (oldCapacity > 0 || elementData != DEFAULTCAPACITY_EMPTY_ELEMENTDATA) {
+            int newCapacity = CustomList.newLength(oldCapacity, minCapacity);
+            elementData = unwrap(newCapacity);
+        } else {
+            elementData = new Object[Math.max(DEFAULT_CAPACITY, minCapacity)];
+        }
+        head = 0;
+        return elementData;
+    }
+
+    private Object[] grow() {
+        return grow(size + 1);
+    }
+}
@@ -0,0 +1,425 @@
+package org.example;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.util.*;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * An immutable, compressed list of {@code int} values for large sorted or
+ * clustered sequences such as ids.
+ * <p>
+ * Values are stored in blocks of {@value #BLOCK_SIZE}. Each block is encoded
+ * with whichever of two schemes is smaller:
+ * <ul>
+ * <li><b>delta + varint</b>: the first value is kept in the block index and
+ * every following value is stored as the zigzag-encoded difference to its
+ * predecessor in a variable-length integer, so a sorted sequence with small
+ * gaps takes about one byte per value;</li>
+ * <li><b>frame of reference</b>: the smallest value of the block is kept in
+ * the block index and every value is stored as its offset from it,
+ * bit-packed with just enough bits for the largest offset, so clustered
+ * but unsorted values take a few bits each.</li>
+ * </ul>
+ * The block index holds the byte offset and base value of every block, so
+ * {@link #get(int)} finds the block directly and then either extracts the
+ * packed value in O(1) or decodes at most one block of varints. Sequential
+ * access through {@link #forEach}, {@link #iterator()} or {@link #stream()}
+ * decodes a whole block at a time.
+ * <p>
+ * Lists are built append-only with a {@link Builder}, or with
+ * {@link #copyOf(IntCustomList)}, {@link #copyOf(Collection)} and
+ * {@link #copyOf(IntStream)}.
+ */
+public final class CompressedIntList {
+
+    /**
+     * The number of values per block.
+     */
+    static final int BLOCK_SIZE = 128;
+
+    private static final int BLOCK_SHIFT = 7;
+
+    /**
+     * Header byte of a delta + varint block; frame-of-reference blocks store
+     * their bit width (0 to 32) instead.
+     */
+    private static final byte DELTA_VARINT = (byte) 0x80;
+
+    /**
+     * Zero bytes kept after the last block so that a packed value can always
+     * be read with a single 8-byte load.
+     */
+    private static final int PADDING = Long.BYTES;
+
+    private static final VarHandle LONG_LE =
+            MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private static final CompressedIntList EMPTY =
+            new CompressedIntList(0, new byte[PADDING], new int[0], new int[0]);
+
+    private final int size;
+
+    /**
+     * The encoded blocks, each starting with its header byte.
+     */
+    private final byte[] data;
+
+    /**
+     * The offset in {@code data} of every block.
+     */
+    private final int[] offsets;
+
+    /**
+     * The first value (delta + varint) or the smallest value (frame of
+     * reference) of every block.
+     */
+    private final int[] bases;
+
+    private CompressedIntList(int size, byte[] data, int[] offsets, int[] bases) {
+        this.size = size;
+        this.data = data;
+        this.offsets = offsets;
+        this.bases = bases;
+    }
+
+    /**
+     * Returns a new builder.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns a compressed copy of the values of the list.
+     */
+    public static CompressedIntList copyOf(IntCustomList values) {
+        Builder builder = builder();
+        int[] es = values.elementData;
+        for (int i = 0, n = values.size(); i < n; i++)
+            builder.add(es[i]);
+        return builder.build();
+    }
+
+    /**
+     * Returns a compressed copy of the values of the collection, such as a
+     * {@code CustomList<Integer>}.
+     *
+     * @throws NullPointerException if the collection contains {@code null}
+     */
+    public static CompressedIntList copyOf(Collection<Integer> values) {
+        Builder builder = builder();
+        for (Integer value : values)
+            builder.add(value);
+        return builder.build();
+    }
+
+    /**
+     * Returns a compressed copy of the values of the stream, in encounter
+     * order.
+     */
+    public static CompressedIntList copyOf(IntStream values) {
+        Builder builder = builder();
+        values.sequential().forEachOrdered(builder::add);
+        return builder.build();
+    }
+
+    /**
+     * Returns the number of values in this list.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns {@code true} if this list contains no values.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of bytes used by the encoded blocks and the block
+     * index.
+     */
+    public long compressedBytes() {
+        return data.length + (long) Integer.BYTES * (offsets.length + bases.length);
+    }
+
+    /**
+     * Returns the value at the specified position in this list.
+     *
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public int get(int index) {
+        Objects.checkIndex(index, size);
+        int block = index >>> BLOCK_SHIFT;
+        int i = index & (BLOCK_SIZE - 1);
+        int offset = offsets[block];
+        byte header = data[offset];
+        if (header != DELTA_VARINT)
+            return bases[block] + unpack(data, offset + 1, header, i);
+        int value = bases[block];
+        for (int pos = offset + 1; i > 0; i--) {
+            int zigzag = 0;
+            for (int shift = 0; ; shift += 7) {
+                byte b = data[pos++];
+                zigzag |= (b & 0x7F) << shift;
+                if (b >= 0)
+                    break;
+            }
+            value += (zigzag >>> 1) ^ -(zigzag & 1);
+        }
+        return value;
+    }
+
+    private static int unpack(byte[] data, int start, int width, int i) {
+        long bit = (long) i * width;
+        long word = (long) LONG_LE.get(data, start + (int) (bit >>> 3));
+        return (int) ((word >>> (bit & 7)) & ((1L << width) - 1));
+    }
+
+    /**
+     * Decodes the block into {@code out} and returns the number of values it
+     * holds.
+     */
+    private int decodeBlock(int block, int[] out) {
+        int n = Math.min(BLOCK_SIZE, size - (block << BLOCK_SHIFT));
+        int offset = offsets[block];
+        byte header = data[offset];
+        int base = bases[block];
+        if (header != DELTA_VARINT) {
+            for (int i = 0; i < n; i++)
+                out[i] = base + unpack(data, offset + 1, header, i);
+            return n;
+        }
+        out[0] = base;
+        for (int i = 1, pos = offset + 1; i < n; i++) {
+            int zigzag = 0;
+            for (int shift = 0; ; shift += 7) {
+                byte b = data[pos++];
+                zigzag |= (b & 0x7F) << shift;
+                if (b >= 0)
+                    break;
+            }
+            out[i] = out[i - 1] + ((zigzag >>> 1) ^ -(zigzag & 1));
+        }
+        return n;
+    }
+
+    /**
+     * Performs the action for each value in order, decoding one block at a
+     * time.
+     */
+    public void forEach(IntConsumer action) {
+        Objects.requireNonNull(action);
+        int[] buffer = new int[BLOCK_SIZE];
+        for (int block = 0; block < offsets.length; block++) {
+            int n = decodeBlock(block, buffer);
+            for (int i = 0; i < n; i++)
+                action.accept(buffer[i]);
+        }
+    }
+
+    /**
+     * Returns an array containing all of the values in this list.
+     */
+    public int[] toArray() {
+        int[] a = new int[size];
+        int[] buffer = new int[BLOCK_SIZE];
+        for (int block = 0; block < offsets.length; block++) {
+            int n = decodeBlock(block, buffer);
+            System.arraycopy(buffer, 0, a, block << BLOCK_SHIFT, n);
+        }
+        return a;
+    }
+
+    /**
+     * Returns an iterator over the values in this list.
+     */
+    public PrimitiveIterator.OfInt iterator() {
+        return new Itr();
+    }
+
+    /**
+     * Returns a sequential stream of the values in this list.
+     */
+    public IntStream stream() {
+        return StreamSupport.intStream(Spliterators.spliterator(iterator(), size,
+                Spliterator.ORDERED | Spliterator.IMMUTABLE | Spliterator.NONNULL), false);
+    }
+
+    private class Itr implements PrimitiveIterator.OfInt {
+        final int[] buffer = new int[BLOCK_SIZE];
+        int cursor;
+        int decoded; // number of values decoded so far
+
+        @Override
+        public boolean hasNext() {
+            return cursor < size;
+        }
+
+        @Override
+        public int nextInt() {
+            int i = cursor;
+            if (i >= size)
+                throw new NoSuchElementException();
+            if (i == decoded)
+                decoded += decodeBlock(i >>> BLOCK_SHIFT, buffer);
+            cursor = i + 1;
+            return buffer[i & (BLOCK_SIZE - 1)];
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringJoiner joiner = new StringJoiner(", ", "[", "]");
+        forEach(value -> joiner.add(Integer.toString(value)));
+        return joiner.toString();
+    }
+
+    /**
+     * An append-only builder of compressed lists. Values are buffered until
+     * a block is full and then encoded. A builder builds a single list.
+     */
+    public static final class Builder {
+
+        private final int[] block = new int[BLOCK_SIZE];
+
+        private int blockSize;
+
+        private int size;
+
+        private byte[] data = new byte[256];
+
+        private int length;
+
+        private int[] offsets = new int[16];
+
+        private int[] bases = new int[16];
+
+        private int blocks;
+
+        private boolean built;
+
+        Builder() {
+        }
+
+        /**
+         * Appends the value.
+         *
+         * @return this builder
+         * @throws IllegalStateException if the list was already built
+         */
+        public Builder add(int value) {
+            if (built)
+                throw new IllegalStateException("Builder already used");
+            block[blockSize++] = value;
+            size++;
+            if (blockSize == BLOCK_SIZE)
+                flush();
+            return this;
+        }
+
+        /**
+         * Appends the values.
+         *
+         * @return this builder
+         */
+        public Builder addAll(int... values) {
+            for (int value : values)
+                add(value);
+            return this;
+        }
+
+        /**
+         * Encodes the remaining values and returns the list.
+         *
+         * @throws IllegalStateException if the list was already built
+         */
+        public CompressedIntList build() {
+            if (built)
+                throw new IllegalStateException("Builder already used");
+            built = true;
+            if (size == 0)
+                return EMPTY;
+            if (blockSize > 0)
+                flush();
+            return new CompressedIntList(size, Arrays.copyOf(data, length + PADDING),
+                    Arrays.copyOf(offsets, blocks), Arrays.copyOf(bases, blocks));
+        }
+
+        private void flush() {
+            final int[] vs = block;
+            final int n = blockSize;
+            int min = vs[0], max = vs[0];
+            int varintBytes = 0;
+            for (int i = 1; i < n; i++) {
+                min = Math.min(min, vs[i]);
+                max = Math.max(max, vs[i]);
+                varintBytes += varintLength(zigzag(vs[i] - vs[i - 1]));
+            }
+            int width = 64 - Long.numberOfLeadingZeros((long) max - min);
+            int packedBytes = (int) (((long) n * width + 7) >>> 3);
+
+            if (blocks == offsets.length) {
+                offsets = Arrays.copyOf(offsets, CustomList.newLength(blocks, blocks + 1));
+                bases = Arrays.copyOf(bases, offsets.length);
+            }
+            offsets[blocks] = length;
+            ensureCapacity(length + 1 + Math.min(varintBytes, packedBytes) + PADDING);
+            if (varintBytes < packedBytes) {
+                bases[blocks] = vs[0];
+                data[length++] = DELTA_VARINT;
+                for (int i = 1; i < n; i++)
+                    putVarint(zigzag(vs[i] - vs[i - 1]));
+            } else {
+                bases[blocks] = min;
+                data[length++] = (byte) width;
+                pack(vs, n, min, width);
+            }
+            blocks++;
+            blockSize = 0;
+        }
+
+        private void ensureCapacity(int minCapacity) {
+            if (minCapacity > data.length)
+                data = Arrays.copyOf(data, CustomList.newLength(data.length, minCapacity));
+        }
+
+        private static int zigzag(int delta) {
+            return (delta << 1) ^ (delta >> 31);
+        }
+
+        private static int varintLength(int value) {
+            return (31 - Integer.numberOfLeadingZeros(value | 1)) / 7 + 1;
+        }
+
+        private void putVarint(int value) {
+            while ((value & ~0x7F) != 0) {
+                data[length++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            data[length++] = (byte) value;
+        }
+
+        private void pack(int[] vs, int n, int min, int width) {
+            long buffer = 0;
+            int bits = 0;
+            for (int i = 0; i < n; i++) {
+                buffer |= ((vs[i] - (long) min) & 0xFFFFFFFFL) << bits;
+                bits += width;
+                while (bits >= 8) {
+                    data[length++] = (byte) buffer;
+                    buffer >>>= 8;
+                    bits -= 8;
+                }
+            }
+            if (bits > 0)
+                data[length++] = (byte) buffer;
+        }
+    }
+}
@@ -0,0 +1,628 @@
+package org.example;
+
+import java.util.*;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Predicate;
+
+/**
+ * A thread-safe {@link CustomList} variant guarded by a {@link StampedLock}.
+ * <p>
+ * Readers ({@link #get}, {@link #size}, {@link #indexOf}, {@link #contains},
+ * {@link #toArray()} and iteration) first take an optimistic read stamp,
+ * read {@code elementData} and {@code size} without blocking, and only fall
+ * back to a real read lock if a writer intervened. Read-heavy workloads
+ * therefore do not serialize on a monitor the way
+ * {@code Collections.synchronizedList} does.
+ * <p>
+ * User code ({@code equals}, {@code hashCode}, predicates and the
+ * {@code contains} of argument collections) never runs while the lock is
+ * held, since the lock is not reentrant and user code may read this list.
+ * It runs on a validated snapshot copy of the elements instead, so it never
+ * sees a state that a writer was in the middle of changing.
+ * {@link #remove(Object)}, {@link #removeAll}, {@link #retainAll} and
+ * {@link #removeIf} decide on such a snapshot and then apply their changes
+ * under the write lock if no writer intervened; otherwise they take a new
+ * snapshot and decide again, so the user code may run more than once per
+ * element. Each of them is atomic.
+ * <p>
+ * Writers take the write lock. Growth copies the elements into a new array
+ * and publishes it by assigning {@code elementData} while still holding the
+ * write lock, so an optimistic reader either validates against the complete
+ * new array or retries. {@link #addAll(int, Collection)} runs entirely under
+ * the write lock and is atomic.
+ * <p>
+ * Iterators and list iterators are weakly consistent: they never throw
+ * {@link ConcurrentModificationException} and reflect the list at the time
+ * each element is read. {@link #spliterator()}, {@link #equals} and
+ * {@link #hashCode} work on a snapshot. {@link #subList} views are not
+ * thread-safe and fail fast like those of {@link AbstractList}. Compound
+ * actions such as check-then-act are not atomic.
+ *
+ * @param <S> the type of elements in this list
+ */
+public class ConcurrentCustomList<S> extends AbstractList<S> implements RandomAccess {
+
+    /**
+     * Default initial capacity.
+     */
+    private static final int DEFAULT_CAPACITY = 10;
+
+    private final StampedLock lock = new StampedLock();
+
+    /**
+     * The array buffer into which the elements of the list are stored.
+     * Only replaced while holding the write lock.
+     */
+    private Object[] elementData;
+
+    /**
+     * The size of the list (the number of elements it contains).
+     */
+    private int size;
+
+    /**
+     * Constructs an empty list with an initial capacity of ten.
+     */
+    public ConcurrentCustomList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty list with the specified initial capacity.
+     *
+     * @throws IllegalArgumentException if the specified initial capacity
+     *                                  is negative
+     */
+    public ConcurrentCustomList(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Illegal Capacity: " +
+                    initialCapacity);
+        }
+        this.elementData = new Object[initialCapacity];
+    }
+
+    private String outOfBoundsMsg(int index) {
+        return "Index: " + index + ", Size: " + size;
+    }
+
+    private void rangeCheckForAdd(int index) {
+        if (index > size || index < 0)
+            throw new IndexOutOfBoundsException(outOfBoundsMsg(index));
+    }
+
+    /**
+     * A validated copy of the elements and the {@code modCount} it was
+     * taken at.
+     */
+    private record Snapshot(Object[] elements, int modCount) {
+    }
+
+    /**
+     * Copies the elements optimistically, falling back to the read lock if
+     * a writer intervened.
+     */
+    private Snapshot snapshot() {
+        long stamp = lock.tryOptimisticRead();
+        Object[] es = elementData;
+        Object[] copy = Arrays.copyOf(es, Math.min(size, es.length));
+        int mc = modCount;
+        if (lock.validate(stamp))
+            return new Snapshot(copy, mc);
+        stamp = lock.readLock();
+        try {
+            return new Snapshot(Arrays.copyOf(elementData, size), modCount);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    // Read operations
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public S get(int index) {
+        long stamp = lock.tryOptimisticRead();
+        Object[] es = elementData;
+        int s = size;
+        // es and s may be mutually inconsistent until validated
+        Object e = (index >= 0 && index < s && index < es.length) ? es[index] : null;
+        if (lock.validate(stamp)) {
+            Objects.checkIndex(index, s);
+            return (S) e;
+        }
+        stamp = lock.readLock();
+        try {
+            Objects.checkIndex(index, size);
+            return (S) elementData[index];
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public int size() {
+        long stamp = lock.tryOptimisticRead();
+        int s = size;
+        if (lock.validate(stamp))
+            return s;
+        stamp = lock.readLock();
+        try {
+            return size;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        // equals runs on a validated copy, outside of any lock
+        Object[] snapshot = snapshot().elements();
+        return indexOfRange(snapshot, o, snapshot.length);
+    }
+
+    private static int indexOfRange(Object[] es, Object o, int end) {
+        if (o == null) {
+            for (int i = 0; i < end; i++) {
+                if (es[i] == null) {
+                    return i;
+                }
+            }
+        } else {
+            for (int i = 0; i < end; i++) {
+                if (o.equals(es[i])) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int lastIndexOf(Object o) {
+        Object[] es = snapshot().elements();
+        for (int i = es.length - 1; i >= 0; i--) {
+            if (Objects.equals(o, es[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public Object[] toArray() {
+        return snapshot().elements();
+    }
+
+    @Override
+    public Iterator<S> iterator() {
+        return new Itr();
+    }
+
+    @Override
+    public ListIterator<S> listIterator(int index) {
+        rangeCheckForAdd(index);
+        return new ListItr(index);
+    }
+
+    /**
+     * Returns a spliterator over a snapshot of the elements.
+     */
+    @Override
+    public Spliterator<S> spliterator() {
+        return Spliterators.spliterator(snapshot().elements(), Spliterator.ORDERED);
+    }
+
+    /**
+     * Compares a snapshot of the elements with the specified object.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (o == this)
+            return true;
+        if (!(o instanceof List<?> other))
+            return false;
+        Object[] es = snapshot().elements();
+        Iterator<?> it = other.iterator();
+        for (Object e : es) {
+            if (!it.hasNext() || !Objects.equals(e, it.next()))
+                return false;
+        }
+        return !it.hasNext();
+    }
+
+    /**
+     * Returns the hash code of a snapshot of the elements.
+     */
+    @Override
+    public int hashCode() {
+        int hashCode = 1;
+        for (Object e : snapshot().elements())
+            hashCode = 31 * hashCode + (e == null ? 0 : e.hashCode());
+        return hashCode;
+    }
+
+    /**
+     * A weakly consistent iterator; every step is an optimistic read.
+     */
+    private class Itr implements Iterator<S> {
+        int cursor;       // index of next element to return
+        int lastRet = -1; // index of last element returned; -1 if no such
+        Object last;      // the last element returned
+
+        @Override
+        public boolean hasNext() {
+            return cursor < size();
+        }
+
+        @Override
+        public S next() {
+            int i = cursor;
+            S e;
+            try {
+                e = get(i);
+            } catch (IndexOutOfBoundsException ex) {
+                throw new NoSuchElementException();
+            }
+            cursor = i + 1;
+            lastRet = i;
+            last = e;
+            return e;
+        }
+
+        /**
+         * Removes the last element returned under the write lock. If writers
+         * have shifted it, the element is looked up by identity; if it is no
+         * longer in the list, nothing is removed.
+         */
+        @Override
+        public void remove() {
+            if (lastRet < 0)
+                throw new IllegalStateException();
+            long stamp = lock.writeLock();
+            try {
+                final Object[] es = elementData;
+                int i = lastRet;
+                if (i >= size || es[i] != last) {
+                    i = size - 1;
+                    while (i >= 0 && es[i] != last)
+                        i--;
+                }
+                if (i >= 0) {
+                    fastRemove(es, i);
+                    cursor = i;
+                }
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+            lastRet = -1;
+            last = null;
+        }
+    }
+
+    /**
+     * A weakly consistent list iterator. {@link #set} replaces the last
+     * element returned wherever writers have moved it, and {@link #add}
+     * inserts at the cursor, or at the end if the list has shrunk below it.
+     */
+    private class ListItr extends Itr implements ListIterator<S> {
+        ListItr(int index) {
+            cursor = index;
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return cursor > 0;
+        }
+
+        @Override
+        public S previous() {
+            int i = cursor - 1;
+            S e;
+            try {
+                e = get(i);
+            } catch (IndexOutOfBoundsException ex) {
+                throw new NoSuchElementException();
+            }
+            cursor = i;
+            lastRet = i;
+            last = e;
+            return e;
+        }
+
+        @Override
+        public int nextIndex() {
+            return cursor;
+        }
+
+        @Override
+        public int previousIndex() {
+            return cursor - 1;
+        }
+
+        @Override
+        public void set(S e) {
+            if (lastRet < 0)
+                throw new IllegalStateException();
+            long stamp = lock.writeLock();
+            try {
+                final Object[] es = elementData;
+                int i = lastRet;
+                if (i >= size || es[i] != last) {
+                    i = size - 1;
+                    while (i >= 0 && es[i] != last)
+                        i--;
+                }
+                if (i >= 0) {
+                    es[i] = e;
+                    last = e;
+                }
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        @Override
+        public void add(S e) {
+            long stamp = lock.writeLock();
+            try {
+                int i = Math.min(cursor, size);
+                insert(i, e);
+                cursor = i + 1;
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+            lastRet = -1;
+            last = null;
+        }
+    }
+
+    // Write operations
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public S set(int index, S element) {
+        long stamp = lock.writeLock();
+        try {
+            Objects.checkIndex(index, size);
+            S oldValue = (S) elementData[index];
+            elementData[index] = element;
+            return oldValue;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public boolean add(S element) {
+        long stamp = lock.writeLock();
+        try {
+            final int s;
+            Object[] es;
+            if ((s = size) == (es = elementData).length)
+                es = grow(s + 1);
+            es[s] = element;
+            size = s + 1;
+            modCount++;
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public void add(int index, S element) {
+        long stamp = lock.writeLock();
+        try {
+            rangeCheckForAdd(index);
+            insert(index, element);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Must be called with the write lock held.
+     */
+    private void insert(int index, S element) {
+        final int s;
+        Object[] es;
+        if ((s = size) == (es = elementData).length)
+            es = grow(s + 1);
+        System.arraycopy(es, index, es, index + 1, s - index);
+        es[index] = element;
+        size = s + 1;
+        modCount++;
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends S> c) {
+        Object[] a = c.toArray();
+        int numNew = a.length;
+        if (numNew == 0)
+            return false;
+        long stamp = lock.writeLock();
+        try {
+            Object[] es;
+            final int s;
+            if (numNew > (es = elementData).length - (s = size))
+                es = grow(s + numNew);
+            System.arraycopy(a, 0, es, s, numNew);
+            size = s + numNew;
+            modCount++;
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends S> c) {
+        Object[] a = c.toArray();
+        int numNew = a.length;
+        long stamp = lock.writeLock();
+        try {
+            rangeCheckForAdd(index);
+            if (numNew == 0)
+                return false;
+            Object[] es;
+            final int s;
+            if (numNew > (es = elementData).length - (s = size))
+                es = grow(s + numNew);
+            System.arraycopy(es, index, es, index + numNew, s - index);
+            System.arraycopy(a, 0, es, index, numNew);
+            size = s + numNew;
+            modCount++;
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public S remove(int index) {
+        long stamp = lock.writeLock();
+        try {
+            Objects.checkIndex(index, size);
+            final Object[] es = elementData;
+            S oldValue = (S) es[index];
+            fastRemove(es, index);
+            return oldValue;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Removes the first occurrence of the specified element. The element is
+     * searched in a snapshot and removed under the write lock if no writer
+     * intervened, otherwise the search is repeated.
+     */
+    @Override
+    public boolean remove(Object o) {
+        for (; ; ) {
+            Snapshot snapshot = snapshot();
+            int i = indexOfRange(snapshot.elements(), o, snapshot.elements().length);
+            if (i < 0)
+                return false;
+            long stamp = lock.writeLock();
+            try {
+                if (modCount == snapshot.modCount()) {
+                    fastRemove(elementData, i);
+                    return true;
+                }
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+    }
+
+    private void fastRemove(Object[] es, int i) {
+        final int newSize;
+        if ((newSize = size - 1) > i)
+            System.arraycopy(es, i + 1, es, i, newSize - i);
+        es[size = newSize] = null;
+        modCount++;
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        Objects.requireNonNull(c);
+        return removeIf(c::contains);
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        Objects.requireNonNull(c);
+        return removeIf(e -> !c.contains(e));
+    }
+
+    /**
+     * Removes all of the elements that satisfy the filter. The filter is
+     * evaluated on a snapshot outside of the lock, and the list is compacted
+     * in one pass under the write lock if no writer intervened; otherwise
+     * the filter is evaluated again on a new snapshot.
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public boolean removeIf(Predicate<? super S> filter) {
+        Objects.requireNonNull(filter);
+        for (; ; ) {
+            Snapshot snapshot = snapshot();
+            final Object[] elements = snapshot.elements();
+            final int end = elements.length;
+            BitSet removed = new BitSet(end);
+            for (int i = 0; i < end; i++) {
+                if (filter.test((S) elements[i]))
+                    removed.set(i);
+            }
+            if (removed.isEmpty())
+                return false;
+            long stamp = lock.writeLock();
+            try {
+                if (modCount != snapshot.modCount())
+                    continue;
+                final Object[] es = elementData;
+                int w = 0;
+                for (int r = 0; r < end; r++) {
+                    if (!removed.get(r))
+                        es[w++] = es[r];
+                }
+                Arrays.fill(es, w, end, null);
+                size = w;
+                modCount++;
+                return true;
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+    }
+
+    @Override
+    public void clear() {
+        long stamp = lock.writeLock();
+        try {
+            final Object[] es = elementData;
+            for (int to = size, i = size = 0; i < to; i++)
+                es[i] = null;
+            modCount++;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Increases the capacity of this list, if necessary, to ensure that it
+     * can hold at least the number of elements specified by the minimum
+     * capacity argument.
+     */
+    public void ensureCapacity(int minCapacity) {
+        long stamp = lock.writeLock();
+        try {
+            if (minCapacity > elementData.length)
+                grow(minCapacity);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Must be called with the write lock held. The filled copy is published
+     * by the assignment to {@code elementData}; optimistic readers that saw
+     * the old array fail validation once the write lock is released.
+     */
+    private Object[] grow(int minCapacity) {
+        int newCapacity = CustomList.newLength(elementData.length, Math.max(minCapacity, DEFAULT_CAPACITY));
+        return elementData = Arrays.copyOf(elementData, newCapacity);
+    }
+}
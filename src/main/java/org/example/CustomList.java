@@ -1,6 +1,16 @@
 package org.example;
 
 import java.util.*;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collector;
+import java.util.stream.Stream;
 
 public class CustomList<S> implements List<S> {
 
@@ -48,6 +58,56 @@ public class CustomList<S> implements List<S> {
      */
     private int size;
 
+    /**
+     * The optional features of this list, or {@code null} if none was ever
+     * enabled. Keeping them in one side object costs a plain list a single
+     * reference field.
+     */
+    private transient Features features;
+
+    /**
+     * The state of the optional features of a list.
+     */
+    private static final class Features {
+        /**
+         * The optional hash index of the elements, or {@code null} if
+         * indexing is disabled. See {@link #setIndexed(boolean)}.
+         */
+        CustomListIndex index;
+
+        /**
+         * The metrics the list reports to, or {@code null} if metrics are
+         * disabled. See {@link #enableMetrics(String)}.
+         */
+        CustomListMetrics metrics;
+
+        /**
+         * Whether the backing array is borrowed from the
+         * {@link ObjectArrayPool}. See {@link #pooled()}.
+         */
+        boolean pooled;
+    }
+
+    private Features features() {
+        Features f;
+        return (f = features) != null ? f : (features = new Features());
+    }
+
+    private CustomListIndex index() {
+        Features f;
+        return (f = features) != null ? f.index : null;
+    }
+
+    private CustomListMetrics metrics() {
+        Features f;
+        return (f = features) != null ? f.metrics : null;
+    }
+
+    private boolean isPooled() {
+        Features f;
+        return (f = features) != null && f.pooled;
+    }
+
     /**
      * Constructs an empty list with the specified initial capacity.
      *
@@ -92,6 +152,56 @@ public class CustomList<S> implements List<S> {
         }
     }
 
+    /**
+     * Constructs a list that adopts the given array as its elementData,
+     * without copying it. Used to restore a list straight into a presized
+     * array.
+     */
+    CustomList(Object[] elementData, int size) {
+        this.elementData = elementData.length == 0 ? EMPTY_ELEMENTDATA : elementData;
+        this.size = size;
+    }
+
+    /**
+     * Returns an empty list whose backing arrays are borrowed from a shared
+     * pool instead of being allocated. Growing the list trades its array for
+     * a larger pooled one, and {@link #release()} hands the array back when
+     * the list is no longer needed, so short-lived lists that are released
+     * reuse storage instead of allocating it.
+     */
+    public static <S> CustomList<S> pooled() {
+        return pooled(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Returns an empty pooled list with at least the specified initial
+     * capacity. See {@link #pooled()}.
+     *
+     * @throws IllegalArgumentException if the initial capacity is negative
+     */
+    public static <S> CustomList<S> pooled(int initialCapacity) {
+        if (initialCapacity < 0)
+            throw new IllegalArgumentException("Illegal Capacity: " + initialCapacity);
+        CustomList<S> list = new CustomList<>(ObjectArrayPool.acquire(initialCapacity), 0);
+        list.features().pooled = true;
+        return list;
+    }
+
+    /**
+     * Clears this list and returns its backing array to the pool if the list
+     * is {@linkplain #pooled() pooled}; otherwise just clears it. The list
+     * stays usable and borrows a new array when elements are added again.
+     * Iterators and sublists obtained before the release must not be used
+     * afterwards, since the array may already belong to another list.
+     */
+    public void release() {
+        clear();
+        if (isPooled() && elementData != EMPTY_ELEMENTDATA) {
+            ObjectArrayPool.release(elementData);
+            elementData = EMPTY_ELEMENTDATA;
+        }
+    }
+
     /**
      * Constructs an IndexOutOfBoundsException detail message.
      * Of the many possible refactorings of the error handling code,
@@ -123,13 +233,29 @@ public class CustomList<S> implements List<S> {
         rangeCheckForAdd(index);
         final int s;
         Object[] elementData;
-        if ((s = size) == (elementData = this.elementData).length)
+        final int oldCapacity;
+        if ((s = size) == (oldCapacity = (elementData = this.elementData).length))
             elementData = grow();
         System.arraycopy(elementData, index,
                 elementData, index + 1,
                 s - index);
+        if (s - index >= CustomListEvents.COPY_THRESHOLD)
+            CustomListEvents.copied("add", oldCapacity, elementData.length, s - index);
         elementData[index] = element;
         size = s + 1;
+        final Features f;
+        if ((f = features) != null) {
+            if (f.metrics != null) {
+                f.metrics.added(1);
+                f.metrics.shifted(s - index);
+            }
+            if (f.index != null) {
+                if (index == s)
+                    f.index.append(element, index);
+                else
+                    f.index.shiftInsert(element, index, s + 1);
+            }
+        }
     }
 
     /**
@@ -142,6 +268,16 @@ public class CustomList<S> implements List<S> {
             elementData = grow();
         elementData[num] = s;
         size = num + 1;
+        if (features != null)
+            featuresAdded(s, num);
+    }
+
+    private void featuresAdded(S s, int num) {
+        final Features f = features;
+        if (f.metrics != null)
+            f.metrics.added(1);
+        if (f.index != null)
+            f.index.append(s, num);
     }
 
     //TODO: Get
@@ -175,6 +311,11 @@ public class CustomList<S> implements List<S> {
         Objects.checkIndex(index, size);
         S oldValue = elementData(index);
         elementData[index] = element;
+        final CustomListIndex hashIndex;
+        if ((hashIndex = index()) != null) {
+            hashIndex.remove(oldValue, index);
+            hashIndex.insert(element, index, size);
+        }
         return oldValue;
     }
 
@@ -184,10 +325,25 @@ public class CustomList<S> implements List<S> {
     }
 
     private void fastRemove(Object[] es, int i) {
+        final CustomListIndex index;
+        if ((index = index()) != null) {
+            if (i == size - 1)
+                index.remove(es[i], i);
+            else
+                index.shiftRemove(es[i], i, size);
+        }
         final int newSize;
-        if ((newSize = size - 1) > i)
+        if ((newSize = size - 1) > i) {
             System.arraycopy(es, i + 1, es, i, newSize - i);
+            if (newSize - i >= CustomListEvents.COPY_THRESHOLD)
+                CustomListEvents.copied("remove", es.length, es.length, newSize - i);
+        }
         es[size = newSize] = null;
+        final CustomListMetrics metrics;
+        if ((metrics = metrics()) != null) {
+            metrics.removed(1);
+            metrics.shifted(newSize - i);
+        }
     }
 
     //TODO: Remove
@@ -219,6 +375,14 @@ public class CustomList<S> implements List<S> {
     public boolean remove(Object o) {
         final Object[] es = elementData;
         final int size = this.size;
+        final CustomListIndex index;
+        if ((index = index()) != null) {
+            int i = index.first(o, es, size);
+            if (i < 0)
+                return false;
+            fastRemove(es, i);
+            return true;
+        }
         int i = 0;
         found:
         {
@@ -272,6 +436,9 @@ public class CustomList<S> implements List<S> {
         final Object[] es = elementData;
         for (int to = size, i = size = 0; i < to; i++)
             es[i] = null;
+        final CustomListIndex index;
+        if ((index = index()) != null)
+            index.reset();
     }
 
 
@@ -284,10 +451,19 @@ public class CustomList<S> implements List<S> {
      * the storage of an {@code ArrayList} instance.
      */
     public void trimToSize() {
-        if (size < elementData.length) {
+        final int oldCapacity;
+        if (size < (oldCapacity = elementData.length)) {
+            Object[] old = elementData;
             elementData = (size == 0)
                     ? EMPTY_ELEMENTDATA
                     : Arrays.copyOf(elementData, size);
+            if (isPooled()) {
+                // a trimmed array has no pooled length, so stop pooling
+                features.pooled = false;
+                Arrays.fill(old, 0, size, null);
+                ObjectArrayPool.release(old);
+            }
+            CustomListEvents.resized("trimToSize", oldCapacity, size, size);
         }
     }
 
@@ -313,28 +489,54 @@ public class CustomList<S> implements List<S> {
      */
     private Object[] grow(int minCapacity) {
         int oldCapacity = elementData.length;
-        int newCapacity;
-        if (oldCapacity > 0 || elementData != DEFAULTCAPACITY_EMPTY_ELEMENTDATA) {
+        final CustomListMetrics metrics = metrics();
+        long start = metrics != null ? System.nanoTime() : 0L;
+        if (isPooled()) {
+            growPooled(oldCapacity, minCapacity);
+        } else if (oldCapacity > 0 || elementData != DEFAULTCAPACITY_EMPTY_ELEMENTDATA) {
+            int newCapacity = newLength(oldCapacity, minCapacity);
+            elementData = Arrays.copyOf(elementData, newCapacity);
+            CustomListEvents.resized("grow", oldCapacity, newCapacity, size);
+        } else {
+            int newCapacity = Math.max(DEFAULT_CAPACITY, minCapacity);
+            CustomListEvents.resized("grow", 0, newCapacity, 0);
+            elementData = new Object[newCapacity];
+        }
+        if (metrics != null)
+            metrics.grown(System.nanoTime() - start);
+        return elementData;
+    }
 
-            int prefLength = oldCapacity + Math.max(minCapacity - oldCapacity, oldCapacity >> 1); // might overflow
-            if (0 < prefLength && prefLength <= SOFT_MAX_ARRAY_LENGTH) {
-                newCapacity = prefLength;
-            } else {
-                // put code cold in a separate method
-                int minLength = oldCapacity + minCapacity - oldCapacity;
-                if (minLength < 0) { // overflow
-                    throw new OutOfMemoryError(
-                            "Required array length " + oldCapacity + " + " + (minCapacity - oldCapacity) + " is too large");
-                } else if (minLength <= SOFT_MAX_ARRAY_LENGTH) {
-                    newCapacity = SOFT_MAX_ARRAY_LENGTH;
-                } else {
-                    newCapacity = minLength;
-                }
-            }
+    /**
+     * Computes the length of a grown backing array. The preferred growth is
+     * half of the old capacity, but never less than what is needed to reach
+     * {@code minCapacity}. Shared with the other list variants of this
+     * package so that they all follow the same amortized growth policy.
+     *
+     * @param oldCapacity the current length of the backing array
+     * @param minCapacity the desired minimum capacity
+     * @return the new length of the backing array
+     * @throws OutOfMemoryError if minCapacity is less than zero
+     */
+    static int newLength(int oldCapacity, int minCapacity) {
+        int prefLength = oldCapacity + Math.max(minCapacity - oldCapacity, oldCapacity >> 1); // might overflow
+        if (0 < prefLength && prefLength <= SOFT_MAX_ARRAY_LENGTH) {
+            return prefLength;
+        } else {
+            // put code cold in a separate method
+            return hugeLength(oldCapacity, minCapacity);
+        }
+    }
 
-            return elementData = Arrays.copyOf(elementData, newCapacity);
+    private static int hugeLength(int oldCapacity, int minCapacity) {
+        int minLength = oldCapacity + minCapacity - oldCapacity;
+        if (minLength < 0) { // overflow
+            throw new OutOfMemoryError(
+                    "Required array length " + oldCapacity + " + " + (minCapacity - oldCapacity) + " is too large");
+        } else if (minLength <= SOFT_MAX_ARRAY_LENGTH) {
+            return SOFT_MAX_ARRAY_LENGTH;
         } else {
-            return elementData = new Object[Math.max(DEFAULT_CAPACITY, minCapacity)];
+            return minLength;
         }
     }
 
@@ -342,6 +544,23 @@ public class CustomList<S> implements List<S> {
         return grow(size + 1);
     }
 
+    /**
+     * Moves the elements of a pooled list into a larger pooled array and
+     * returns the old one to the pool.
+     */
+    private Object[] growPooled(int oldCapacity, int minCapacity) {
+        final Object[] old = elementData;
+        final int s = size;
+        Object[] es = ObjectArrayPool.acquire(newLength(oldCapacity, minCapacity));
+        System.arraycopy(old, 0, es, 0, s);
+        if (oldCapacity > 0) {
+            Arrays.fill(old, 0, s, null);
+            ObjectArrayPool.release(old);
+        }
+        CustomListEvents.resized("grow", oldCapacity, es.length, s);
+        return elementData = es;
+    }
+
     //TODO: Contains
 
     /**
@@ -358,8 +577,17 @@ public class CustomList<S> implements List<S> {
         return indexOf(o) >= 0;
     }
 
+    /**
+     * Returns the index of the first occurrence of the specified element in
+     * this list, or -1 if this list does not contain the element. Answered
+     * from the hash index in O(1) on average if the list is
+     * {@linkplain #setIndexed(boolean) indexed}, by a linear scan otherwise.
+     */
     @Override
     public int indexOf(Object o) {
+        final CustomListIndex index;
+        if ((index = index()) != null)
+            return index.first(o, elementData, size);
         return indexOfRange(o, 0, size);
     }
 
@@ -368,21 +596,30 @@ public class CustomList<S> implements List<S> {
         if (o == null) {
             for (int i = start; i < end; i++) {
                 if (es[i] == null) {
-                    return i;
+                    return scanned(i - start + 1, i);
                 }
             }
         } else {
             for (int i = start; i < end; i++) {
                 if (o.equals(es[i])) {
-                    return i;
+                    return scanned(i - start + 1, i);
                 }
             }
         }
-        return -1;
+        return scanned(end - start, -1);
     }
 
+    /**
+     * Returns the index of the last occurrence of the specified element in
+     * this list, or -1 if this list does not contain the element. Answered
+     * from the hash index like {@link #indexOf(Object)} if the list is
+     * indexed.
+     */
     @Override
     public int lastIndexOf(Object o) {
+        final CustomListIndex index;
+        if ((index = index()) != null)
+            return index.last(o, elementData, size);
         return lastIndexOfRange(o, 0, size);
     }
 
@@ -391,17 +628,105 @@ public class CustomList<S> implements List<S> {
         if (o == null) {
             for (int i = end - 1; i >= start; i--) {
                 if (es[i] == null) {
-                    return i;
+                    return scanned(end - i, i);
                 }
             }
         } else {
             for (int i = end - 1; i >= start; i--) {
                 if (o.equals(es[i])) {
-                    return i;
+                    return scanned(end - i, i);
                 }
             }
         }
-        return -1;
+        return scanned(end - start, -1);
+    }
+
+    /**
+     * Records a linear scan of {@code length} elements and returns its
+     * result.
+     */
+    private int scanned(int length, int result) {
+        final CustomListMetrics metrics;
+        if ((metrics = metrics()) != null)
+            metrics.scanned(length);
+        return result;
+    }
+
+    //TODO: Hash Index
+
+    /**
+     * Enables or disables the hash index of this list.
+     * <p>
+     * An indexed list keeps a map from every distinct element to the
+     * positions it occupies, so {@link #indexOf}, {@link #lastIndexOf},
+     * {@link #contains}, {@link #containsAll} and {@link #remove(Object)}
+     * find elements in O(1) on average instead of scanning the list.
+     * Appends, {@code set} and removal of the last element update the index
+     * in place. Inserting or removing a single element in the middle is
+     * recorded as a shift that lookups translate through, until about the
+     * square root of the list size such changes have piled up. Bulk removal,
+     * sorting and too many pending shifts drop the index, and the next
+     * lookup rebuilds it in one pass over the list. Elements must have
+     * {@code hashCode} consistent with {@code equals}.
+     * <p>
+     * The index costs one map entry per distinct element. It is disabled by
+     * default and is not serialized.
+     *
+     * @param indexed whether lookups should use the hash index
+     */
+    public void setIndexed(boolean indexed) {
+        if (!indexed) {
+            if (features != null)
+                features.index = null;
+        } else if (index() == null) {
+            features().index = new CustomListIndex(); // built by the first lookup
+        }
+    }
+
+    /**
+     * Returns {@code true} if this list keeps a hash index of its elements.
+     *
+     * @see #setIndexed(boolean)
+     */
+    public boolean isIndexed() {
+        return index() != null;
+    }
+
+    /**
+     * Returns how often the hash index was rebuilt, for tests.
+     */
+    int indexRebuilds() {
+        final CustomListIndex index = index();
+        return index == null ? 0 : index.rebuilds;
+    }
+
+    private void invalidateIndex() {
+        final CustomListIndex index;
+        if ((index = index()) != null)
+            index.invalidate();
+    }
+
+    //TODO: Metrics
+
+    /**
+     * Starts reporting the operations of this list to the
+     * {@link CustomListMetrics} of the given name, which are registered as a
+     * JMX MBean. Lists enabled with the same name share their metrics.
+     * Adds, removes, grows, shifted elements and the lengths of linear
+     * scans are counted; each operation pays a few counter increments.
+     *
+     * @param name the name under which the metrics are published
+     */
+    public void enableMetrics(String name) {
+        features().metrics = CustomListMetrics.forName(Objects.requireNonNull(name));
+    }
+
+    /**
+     * Stops reporting the operations of this list to its metrics.
+     */
+    public void disableMetrics() {
+        if (features != null)
+            features.metrics = null;
     }
 
     //TODO: Contains All
@@ -443,18 +768,132 @@ public class CustomList<S> implements List<S> {
     @Override
     public boolean addAll(Collection<? extends S> c) {
         Object[] a = c.toArray();
-        int numNew = a.length;
+        return appendAll(a, a.length);
+    }
+
+    /**
+     * Appends the first {@code numNew} elements of the array.
+     */
+    private boolean appendAll(Object[] a, int numNew) {
         if (numNew == 0)
             return false;
+        System.arraycopy(a, 0, growForAppend(numNew), size, numNew);
+        appended(numNew);
+        return true;
+    }
+
+    /**
+     * Returns the backing array, grown if necessary to take
+     * {@code numNew} more elements.
+     */
+    private Object[] growForAppend(int numNew) {
         Object[] elementData;
         final int s;
         if (numNew > (elementData = this.elementData).length - (s = size))
             elementData = grow(s + numNew);
-        System.arraycopy(a, 0, elementData, s, numNew);
+        return elementData;
+    }
+
+    /**
+     * Accounts for {@code numNew} elements just copied behind the end of the
+     * list.
+     */
+    private void appended(int numNew) {
+        final int s = size;
         size = s + numNew;
+        final Features f;
+        if ((f = features) == null)
+            return;
+        if (f.metrics != null)
+            f.metrics.added(numNew);
+        if (f.index != null)
+            for (int i = 0; i < numNew; i++)
+                f.index.append(elementData[s + i], s + i);
+    }
+
+    /**
+     * Appends all of the remaining elements of the spliterator. If the
+     * spliterator reports an exact size, the backing array is grown once to
+     * hold them all before any element is added.
+     *
+     * @return {@code true} if this list changed as a result of the call
+     * @throws NullPointerException if the specified spliterator is null
+     */
+    public boolean addAll(Spliterator<? extends S> spliterator) {
+        long expected = spliterator.getExactSizeIfKnown();
+        final int s = size;
+        if (expected > 0 && expected <= SOFT_MAX_ARRAY_LENGTH - s)
+            ensureCapacity(s + (int) expected);
+        spliterator.forEachRemaining(this::add);
+        return size != s;
+    }
+
+    /**
+     * Appends all of the remaining elements of the iterator.
+     *
+     * @return {@code true} if this list changed as a result of the call
+     * @throws NullPointerException if the specified iterator is null
+     */
+    public boolean addAll(Iterator<? extends S> iterator) {
+        final int s = size;
+        iterator.forEachRemaining(this::add);
+        return size != s;
+    }
+
+    /**
+     * Appends all of the elements of the stream, in encounter order. A
+     * sequential stream is drained through its spliterator, presized like
+     * {@link #addAll(Spliterator)}; a parallel stream is first collected
+     * into chunks like {@link #toCustomList()} does, which are then copied
+     * once, straight into the grown backing array of this list.
+     *
+     * @return {@code true} if this list changed as a result of the call
+     * @throws NullPointerException if the specified stream is null
+     */
+    public boolean addAll(Stream<? extends S> stream) {
+        if (!stream.isParallel())
+            return addAll(stream.spliterator());
+        CustomListCollector.Chunks chunks = stream.collect(CustomListCollector.chunks());
+        int numNew = chunks.size();
+        if (numNew == 0)
+            return false;
+        chunks.copyTo(growForAppend(numNew), size);
+        appended(numNew);
         return true;
     }
 
+    /**
+     * Returns a {@link Collector} that accumulates the input elements into a
+     * new {@code CustomList}.
+     * <p>
+     * Unlike {@code Collectors.toList()} followed by
+     * {@link #CustomList(Collection)}, the collector never copies an
+     * element more than once: elements are gathered in chunks of growing
+     * length, the partial results of a parallel stream are combined by
+     * linking their chunks, and the finisher copies everything once into an
+     * exactly sized array, or adopts the only chunk if there is just one.
+     *
+     * @param <S> the type of the input elements
+     */
+    public static <S> Collector<S, ?, CustomList<S>> toCustomList() {
+        return new CustomListCollector<>(0);
+    }
+
+    /**
+     * Returns a {@link Collector} like {@link #toCustomList()} whose first
+     * chunk has room for {@code expectedSize} elements, so a sequential
+     * stream of at most that many elements is collected without any copy.
+     * Only the first container the collector supplies is presized this way,
+     * so use a new collector for every collection.
+     *
+     * @param expectedSize the expected number of elements
+     * @param <S>          the type of the input elements
+     * @throws IllegalArgumentException if {@code expectedSize} is negative
+     */
+    public static <S> Collector<S, ?, CustomList<S>> toCustomList(int expectedSize) {
+        return new CustomListCollector<>(expectedSize);
+    }
+
     /**
      * Inserts all of the elements in the specified collection into this
      * list, starting at the specified position.  Shifts the element
@@ -480,7 +919,8 @@ public class CustomList<S> implements List<S> {
             return false;
         Object[] elementData;
         final int s;
-        if (numNew > (elementData = this.elementData).length - (s = size))
+        final int oldCapacity;
+        if (numNew > (oldCapacity = (elementData = this.elementData).length) - (s = size))
             elementData = grow(s + numNew);
 
         int numMoved = s - index;
@@ -488,11 +928,264 @@ public class CustomList<S> implements List<S> {
             System.arraycopy(elementData, index,
                     elementData, index + numNew,
                     numMoved);
+        if (numMoved >= CustomListEvents.COPY_THRESHOLD)
+            CustomListEvents.copied("addAll", oldCapacity, elementData.length, numMoved);
         System.arraycopy(a, 0, elementData, index, numNew);
         size = s + numNew;
+        final CustomListMetrics metrics;
+        if ((metrics = metrics()) != null) {
+            metrics.added(numNew);
+            metrics.shifted(numMoved);
+        }
+        invalidateIndex();
         return true;
     }
 
+    //TODO: Remove All / Retain All
+
+    /**
+     * Removes from this list all of its elements that are contained in the
+     * specified collection.
+     *
+     * <p>The list is compacted in place in a single pass. If the specified
+     * collection is large and not a {@link Set}, its elements are first
+     * copied into a hashed lookup so that every membership test is O(1).
+     *
+     * @param c collection containing elements to be removed from this list
+     * @return {@code true} if this list changed as a result of the call
+     * @throws NullPointerException if the specified collection is null
+     * @see Collection#contains(Object)
+     */
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        return batchRemove(c, false, 0, size);
+    }
+
+    /**
+     * Retains only the elements in this list that are contained in the
+     * specified collection. In other words, removes from this list all
+     * of its elements that are not contained in the specified collection.
+     *
+     * <p>Uses the same single-pass compaction as {@link #removeAll}.
+     *
+     * @param c collection containing elements to be retained in this list
+     * @return {@code true} if this list changed as a result of the call
+     * @throws NullPointerException if the specified collection is null
+     * @see Collection#contains(Object)
+     */
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        return batchRemove(c, true, 0, size);
+    }
+
+    /**
+     * Collections larger than this, unless they already are a {@link Set},
+     * are copied into a {@link HashSet} before a bulk removal.
+     */
+    private static final int HASHED_LOOKUP_THRESHOLD = 16;
+
+    boolean batchRemove(Collection<?> c, boolean complement, final int from, final int end) {
+        Objects.requireNonNull(c);
+        final Collection<?> lookup = (c instanceof Set || c.size() <= HASHED_LOOKUP_THRESHOLD)
+                ? c
+                : new HashSet<>(c);
+        return removeIf(complement ? e -> !lookup.contains(e) : lookup::contains, from, end);
+    }
+
+    /**
+     * Removes all of the elements of this list that satisfy the given
+     * predicate, compacting the survivors in a single pass.
+     *
+     * @throws NullPointerException if the specified filter is null
+     */
+    @Override
+    public boolean removeIf(Predicate<? super S> filter) {
+        return removeIf(filter, 0, size);
+    }
+
+    /**
+     * Removes all elements satisfying the given predicate, from index
+     * i (inclusive) to index end (exclusive).
+     */
+    @SuppressWarnings("unchecked")
+    boolean removeIf(Predicate<? super S> filter, int i, final int end) {
+        Objects.requireNonNull(filter);
+        final Object[] es = elementData;
+        // Optimize for initial run of survivors
+        for (; i < end && !filter.test((S) es[i]); i++)
+            ;
+        if (i == end)
+            return false;
+        int w = i++;
+        try {
+            for (Object e; i < end; i++)
+                if (!filter.test((S) (e = es[i])))
+                    es[w++] = e;
+        } catch (Throwable ex) {
+            // Preserve behavioral compatibility with AbstractCollection,
+            // even if the filter throws.
+            System.arraycopy(es, i, es, w, end - i);
+            w += end - i;
+            throw ex;
+        } finally {
+            shiftTailOverGap(es, w, end);
+        }
+        return true;
+    }
+
+    /**
+     * Erases the gap from lo to hi, by sliding down following elements.
+     */
+    private void shiftTailOverGap(Object[] es, int lo, int hi) {
+        if (lo < hi)
+            invalidateIndex();
+        final CustomListMetrics metrics;
+        if ((metrics = metrics()) != null && lo < hi) {
+            metrics.removed(hi - lo);
+            metrics.shifted(size - hi);
+        }
+        System.arraycopy(es, hi, es, lo, size - hi);
+        for (int to = size, i = (size -= hi - lo); i < to; i++)
+            es[i] = null;
+    }
+
+    //TODO: Sort
+
+    /**
+     * Sorts this list according to the order induced by the specified
+     * {@link Comparator}. The sort is stable and runs directly on
+     * {@code elementData} over {@code [0, size)}, without copying the
+     * elements out and writing them back one by one.
+     *
+     * @param c the {@code Comparator} used to compare list elements.
+     *          A {@code null} value indicates that the elements'
+     *          {@linkplain Comparable natural ordering} should be used
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void sort(Comparator<? super S> c) {
+        Arrays.sort((S[]) elementData, 0, size, c);
+        invalidateIndex();
+    }
+
+    /**
+     * Sorts this list like {@link #sort(Comparator)}, but uses the
+     * fork/join pool for large lists. Small lists are sorted sequentially.
+     *
+     * @param c the {@code Comparator} used to compare list elements, or
+     *          {@code null} for natural ordering
+     */
+    @SuppressWarnings("unchecked")
+    public void parallelSort(Comparator<? super S> c) {
+        Arrays.parallelSort((S[]) elementData, 0, size, c);
+        invalidateIndex();
+    }
+
+    /**
+     * Sorts this list in ascending order of the {@code int} key extracted
+     * from every element. Each key is extracted once, and keys are compared
+     * as primitives without boxing. The sort is stable.
+     *
+     * @param keyExtractor the function used to extract the sort key
+     */
+    public void sortByInt(ToIntFunction<? super S> keyExtractor) {
+        Objects.requireNonNull(keyExtractor);
+        final Object[] es = elementData;
+        final int s = size;
+        // key in the high half, index in the low half: sorting the packed
+        // values orders by key and keeps equal keys in their original order
+        long[] packed = new long[s];
+        for (int i = 0; i < s; i++)
+            packed[i] = ((long) keyExtractor.applyAsInt(elementAt(es, i)) << 32) | i;
+        Arrays.sort(packed);
+        Object[] sorted = new Object[s];
+        for (int i = 0; i < s; i++)
+            sorted[i] = es[(int) packed[i]];
+        System.arraycopy(sorted, 0, es, 0, s);
+        invalidateIndex();
+    }
+
+    /**
+     * Sorts this list in ascending order of the {@code long} key extracted
+     * from every element. Each key is extracted once, and keys are compared
+     * as primitives without boxing. The sort is stable.
+     *
+     * @param keyExtractor the function used to extract the sort key
+     */
+    public void sortByLong(ToLongFunction<? super S> keyExtractor) {
+        Objects.requireNonNull(keyExtractor);
+        final Object[] es = elementData;
+        final int s = size;
+        long[] keys = new long[s];
+        for (int i = 0; i < s; i++)
+            keys[i] = keyExtractor.applyAsLong(elementAt(es, i));
+        permute(es, sortedOrder(keys, s));
+        invalidateIndex();
+    }
+
+    /**
+     * Sorts this list in ascending order of the {@code double} key
+     * extracted from every element, in the order of
+     * {@link Double#compare(double, double)}. Each key is extracted once,
+     * and keys are compared as primitives without boxing. The sort is
+     * stable.
+     *
+     * @param keyExtractor the function used to extract the sort key
+     */
+    public void sortByDouble(ToDoubleFunction<? super S> keyExtractor) {
+        Objects.requireNonNull(keyExtractor);
+        final Object[] es = elementData;
+        final int s = size;
+        long[] keys = new long[s];
+        for (int i = 0; i < s; i++) {
+            long bits = Double.doubleToLongBits(keyExtractor.applyAsDouble(elementAt(es, i)));
+            // flip the magnitude bits of negative values so that signed long
+            // order matches Double.compare
+            keys[i] = bits ^ ((bits >> 63) & Long.MAX_VALUE);
+        }
+        permute(es, sortedOrder(keys, s));
+        invalidateIndex();
+    }
+
+    @SuppressWarnings("unchecked")
+    static <S> S elementAt(Object[] es, int index) {
+        return (S) es[index];
+    }
+
+    /**
+     * Returns the indices {@code 0..n-1} ordered by their keys, using a
+     * bottom-up merge sort so that equal keys keep their relative order.
+     */
+    private static int[] sortedOrder(long[] keys, int n) {
+        int[] order = new int[n];
+        int[] buffer = new int[n];
+        for (int i = 0; i < n; i++)
+            order[i] = i;
+        for (int width = 1; width < n; width <<= 1) {
+            for (int lo = 0; lo < n; lo += width << 1) {
+                int mid = Math.min(lo + width, n), hi = Math.min(lo + (width << 1), n);
+                int i = lo, j = mid, k = lo;
+                while (i < mid && j < hi)
+                    buffer[k++] = keys[order[j]] < keys[order[i]] ? order[j++] : order[i++];
+                while (i < mid)
+                    buffer[k++] = order[i++];
+                while (j < hi)
+                    buffer[k++] = order[j++];
+            }
+            int[] t = order;
+            order = buffer;
+            buffer = t;
+        }
+        return order;
+    }
+
+    private static void permute(Object[] es, int[] order) {
+        Object[] sorted = new Object[order.length];
+        for (int i = 0; i < order.length; i++)
+            sorted[i] = es[order[i]];
+        System.arraycopy(sorted, 0, es, 0, order.length);
+    }
+
     //TODO: Iterator Class
     private class Itr implements Iterator<S> {
         int cursor;       // index of next element to return
@@ -628,6 +1321,101 @@ public class CustomList<S> implements List<S> {
         return new ListItr(index);
     }
 
+    //TODO: Spliterator
+
+    /**
+     * Creates a <em>late-binding</em> {@link Spliterator} over the elements
+     * in this list.
+     *
+     * <p>The {@code Spliterator} reports {@link Spliterator#SIZED},
+     * {@link Spliterator#SUBSIZED} and {@link Spliterator#ORDERED}. It splits
+     * the index range of {@code elementData} in halves, so parallel streams
+     * get balanced tasks with exact sizes.
+     *
+     * @return a {@code Spliterator} over the elements in this list
+     */
+    @Override
+    public Spliterator<S> spliterator() {
+        return new CustomListSpliterator(0, -1);
+    }
+
+    /**
+     * Index-based split-by-two, lazily initialized Spliterator
+     */
+    final class CustomListSpliterator implements Spliterator<S> {
+
+        private int index; // current index, modified on advance/split
+        private int fence; // -1 until used; then one past last index
+
+        /**
+         * Creates new spliterator covering the given range.
+         */
+        CustomListSpliterator(int origin, int fence) {
+            this.index = origin;
+            this.fence = fence;
+        }
+
+        private int getFence() { // initialize fence to size on first use
+            int hi; // (a specialized variant appears in method forEach)
+            if ((hi = fence) < 0) {
+                hi = fence = size;
+            }
+            return hi;
+        }
+
+        @Override
+        public CustomListSpliterator trySplit() {
+            int hi = getFence(), lo = index, mid = (lo + hi) >>> 1;
+            return (lo >= mid) ? null : // divide range in half unless too small
+                    new CustomListSpliterator(lo, index = mid);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public boolean tryAdvance(Consumer<? super S> action) {
+            if (action == null)
+                throw new NullPointerException();
+            int hi = getFence(), i = index;
+            if (i < hi) {
+                index = i + 1;
+                action.accept((S) elementData[i]);
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void forEachRemaining(Consumer<? super S> action) {
+            int i, hi; // hoist accesses and checks from loop
+            Object[] a;
+            if (action == null)
+                throw new NullPointerException();
+            if ((a = elementData) != null) {
+                if ((hi = fence) < 0) {
+                    hi = size;
+                }
+                if ((i = index) >= 0 && (index = hi) <= a.length) {
+                    for (; i < hi; ++i) {
+                        action.accept((S) a[i]);
+                    }
+                    return;
+                }
+            }
+            throw new ConcurrentModificationException();
+        }
+
+        @Override
+        public long estimateSize() {
+            return getFence() - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+    }
+
     //TODO: Equals
 
     /**
@@ -729,6 +1517,57 @@ public class CustomList<S> implements List<S> {
         return Arrays.copyOf(elementData, size);
     }
 
+    /**
+     * Returns a lazy view of the results of applying the function to the
+     * elements of this list. See {@link CustomListView}.
+     */
+    public <R> CustomListView<R> mapView(Function<? super S, ? extends R> mapper) {
+        return CustomListView.of(this).mapView(mapper);
+    }
+
+    /**
+     * Returns a lazy view of the elements of this list that match the
+     * predicate. See {@link CustomListView}.
+     */
+    public CustomListView<S> filterView(Predicate<? super S> filter) {
+        return CustomListView.of(this).filterView(filter);
+    }
+
+    /**
+     * Returns a lazy view of the results of applying the function to the
+     * elements of this list and of {@code other} at the same positions. See
+     * {@link CustomListView}.
+     */
+    public <U, R> CustomListView<R> zipView(List<? extends U> other,
+                                            BiFunction<? super S, ? super U, ? extends R> zipper) {
+        return CustomListView.of(this).zipView(other, zipper);
+    }
+
+    /**
+     * Returns a lazy view of the elements of this list followed by the
+     * elements of {@code other}. See {@link CustomListView}.
+     */
+    public CustomListView<S> concatView(List<? extends S> other) {
+        return CustomListView.of(this).concatView(other);
+    }
+
+    /**
+     * Returns a {@link PersistentCustomList} holding the elements of this
+     * list. The persistent list is built in a single pass through a
+     * transient builder and does not share storage with this list, so later
+     * changes to this list are not reflected in it.
+     *
+     * @return a persistent list with the same elements, in order
+     */
+    @SuppressWarnings("unchecked")
+    public PersistentCustomList<S> toPersistent() {
+        PersistentCustomList.Builder<S> builder = PersistentCustomList.builder();
+        final Object[] es = elementData;
+        for (int i = 0, s = size; i < s; i++)
+            builder.add((S) es[i]);
+        return builder.snapshot();
+    }
+
     /**
      * Returns an array containing all of the elements in this list in proper
      * sequence (from first to last element); the runtime type of the returned
@@ -765,20 +1604,259 @@ public class CustomList<S> implements List<S> {
         return a;
     }
 
-    /************** DUMMY UNIMPLEMENTED METHODS **************/
+    //TODO: Sub List
 
+    /**
+     * Returns a view of the portion of this list between the specified
+     * {@code fromIndex}, inclusive, and {@code toIndex}, exclusive.  (If
+     * {@code fromIndex} and {@code toIndex} are equal, the returned list is
+     * empty.)  The returned list is backed by this list and shares its
+     * {@code elementData}, so no elements are copied and non-structural
+     * changes in the returned list are reflected in this list, and
+     * vice-versa.
+     *
+     * <p>Searches, equality and hash codes of the view are answered by the
+     * range primitives of this list, and {@code subList(from, to).clear()}
+     * or {@code subList(from, to).replaceAll(op)} act on the range in a
+     * single pass. Views can be nested. The semantics of a view become
+     * undefined if this list is structurally modified other than through
+     * the view.
+     *
+     * @throws IndexOutOfBoundsException {@inheritDoc}
+     * @throws IllegalArgumentException  {@inheritDoc}
+     */
     @Override
-    public List subList(int fromIndex, int toIndex) {
-        return null;
+    public List<S> subList(int fromIndex, int toIndex) {
+        subListRangeCheck(fromIndex, toIndex, size);
+        return new SubList<>(this, fromIndex, toIndex);
     }
 
-    @Override
-    public boolean retainAll(Collection c) {
-        return false;
+    static void subListRangeCheck(int fromIndex, int toIndex, int size) {
+        if (fromIndex < 0)
+            throw new IndexOutOfBoundsException("fromIndex = " + fromIndex);
+        if (toIndex > size)
+            throw new IndexOutOfBoundsException("toIndex = " + toIndex);
+        if (fromIndex > toIndex)
+            throw new IllegalArgumentException("fromIndex(" + fromIndex +
+                    ") > toIndex(" + toIndex + ")");
+    }
+
+    /**
+     * Removes from this list all of the elements whose index is between
+     * {@code fromIndex}, inclusive, and {@code toIndex}, exclusive.
+     * Shifts any succeeding elements to the left (reduces their index).
+     *
+     * @throws IndexOutOfBoundsException if {@code fromIndex} or
+     *                                   {@code toIndex} is out of range
+     *                                   ({@code fromIndex < 0 ||
+     *                                   toIndex > size() ||
+     *                                   toIndex < fromIndex})
+     */
+    void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException(
+                    outOfBoundsMsg(fromIndex, toIndex));
+        }
+        shiftTailOverGap(elementData, fromIndex, toIndex);
     }
 
+    private static String outOfBoundsMsg(int fromIndex, int toIndex) {
+        return "From Index: " + fromIndex + " > To Index: " + toIndex;
+    }
+
+    /**
+     * Replaces each element of this list with the result of applying the
+     * operator to that element, walking {@code elementData} directly.
+     *
+     * @throws NullPointerException if the specified operator is null
+     */
     @Override
-    public boolean removeAll(Collection c) {
-        return false;
+    public void replaceAll(UnaryOperator<S> operator) {
+        replaceAllRange(operator, 0, size);
+    }
+
+    @SuppressWarnings("unchecked")
+    void replaceAllRange(UnaryOperator<S> operator, int i, int end) {
+        Objects.requireNonNull(operator);
+        final Object[] es = elementData;
+        for (; i < end; i++)
+            es[i] = operator.apply((S) es[i]);
+        invalidateIndex();
+    }
+
+    private static class SubList<S> extends AbstractList<S> implements RandomAccess {
+        private final CustomList<S> root;
+        private final SubList<S> parent;
+        private final int offset;
+        private int size;
+
+        /**
+         * Constructs a sublist of an arbitrary CustomList.
+         */
+        public SubList(CustomList<S> root, int fromIndex, int toIndex) {
+            this.root = root;
+            this.parent = null;
+            this.offset = fromIndex;
+            this.size = toIndex - fromIndex;
+        }
+
+        /**
+         * Constructs a sublist of another SubList.
+         */
+        private SubList(SubList<S> parent, int fromIndex, int toIndex) {
+            this.root = parent.root;
+            this.parent = parent;
+            this.offset = parent.offset + fromIndex;
+            this.size = toIndex - fromIndex;
+        }
+
+        public S set(int index, S element) {
+            Objects.checkIndex(index, size);
+            return root.set(offset + index, element);
+        }
+
+        public S get(int index) {
+            Objects.checkIndex(index, size);
+            return root.elementData(offset + index);
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public void add(int index, S element) {
+            rangeCheckForAdd(index);
+            root.add(offset + index, element);
+            updateSizeAndModCount(1);
+        }
+
+        public S remove(int index) {
+            Objects.checkIndex(index, size);
+            S result = root.remove(offset + index);
+            updateSizeAndModCount(-1);
+            return result;
+        }
+
+        protected void removeRange(int fromIndex, int toIndex) {
+            root.removeRange(offset + fromIndex, offset + toIndex);
+            updateSizeAndModCount(fromIndex - toIndex);
+        }
+
+        public boolean addAll(Collection<? extends S> c) {
+            return addAll(this.size, c);
+        }
+
+        public boolean addAll(int index, Collection<? extends S> c) {
+            rangeCheckForAdd(index);
+            int oldRootSize = root.size;
+            if (!root.addAll(offset + index, c))
+                return false;
+            updateSizeAndModCount(root.size - oldRootSize);
+            return true;
+        }
+
+        public void replaceAll(UnaryOperator<S> operator) {
+            root.replaceAllRange(operator, offset, offset + size);
+        }
+
+        public boolean removeAll(Collection<?> c) {
+            return batchRemove(c, false);
+        }
+
+        public boolean retainAll(Collection<?> c) {
+            return batchRemove(c, true);
+        }
+
+        private boolean batchRemove(Collection<?> c, boolean complement) {
+            int oldRootSize = root.size;
+            boolean modified = root.batchRemove(c, complement, offset, offset + size);
+            if (modified)
+                updateSizeAndModCount(root.size - oldRootSize);
+            return modified;
+        }
+
+        public boolean removeIf(Predicate<? super S> filter) {
+            int oldRootSize = root.size;
+            boolean modified = root.removeIf(filter, offset, offset + size);
+            if (modified)
+                updateSizeAndModCount(root.size - oldRootSize);
+            return modified;
+        }
+
+        public Object[] toArray() {
+            return Arrays.copyOfRange(root.elementData, offset, offset + size);
+        }
+
+        @SuppressWarnings("unchecked")
+        public <T> T[] toArray(T[] a) {
+            if (a.length < size)
+                return (T[]) Arrays.copyOfRange(
+                        root.elementData, offset, offset + size, a.getClass());
+            System.arraycopy(root.elementData, offset, a, 0, size);
+            if (a.length > size)
+                a[size] = null;
+            return a;
+        }
+
+        public boolean equals(Object o) {
+            if (o == this) {
+                return true;
+            }
+
+            if (!(o instanceof List)) {
+                return false;
+            }
+
+            return root.equalsRange((List<?>) o, offset, offset + size);
+        }
+
+        public int hashCode() {
+            return root.hashCodeRange(offset, offset + size);
+        }
+
+        public int indexOf(Object o) {
+            int index = root.indexOfRange(o, offset, offset + size);
+            return index >= 0 ? index - offset : -1;
+        }
+
+        public int lastIndexOf(Object o) {
+            int index = root.lastIndexOfRange(o, offset, offset + size);
+            return index >= 0 ? index - offset : -1;
+        }
+
+        public boolean contains(Object o) {
+            return indexOf(o) >= 0;
+        }
+
+        public Iterator<S> iterator() {
+            return listIterator();
+        }
+
+        public List<S> subList(int fromIndex, int toIndex) {
+            subListRangeCheck(fromIndex, toIndex, size);
+            return new SubList<>(this, fromIndex, toIndex);
+        }
+
+        public Spliterator<S> spliterator() {
+            return root.new CustomListSpliterator(offset, offset + size);
+        }
+
+        private void rangeCheckForAdd(int index) {
+            if (index < 0 || index > this.size)
+                throw new IndexOutOfBoundsException(outOfBoundsMsg(index));
+        }
+
+        private String outOfBoundsMsg(int index) {
+            return "Index: " + index + ", Size: " + this.size;
+        }
+
+        private void updateSizeAndModCount(int sizeChange) {
+            SubList<S> slist = this;
+            do {
+                slist.size += sizeChange;
+                slist.modCount++;
+                slist = slist.parent;
+            } while (slist != null);
+        }
     }
 }
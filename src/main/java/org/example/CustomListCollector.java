@@ -0,0 +1,216 @@
+package org.example;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+
+/**
+ * The {@link Collector} behind {@link CustomList#toCustomList()}.
+ * <p>
+ * Elements are accumulated into a list of chunks whose lengths double from
+ * the first chunk up to {@value #MAX_CHUNK_LENGTH} elements, so accumulating
+ * never copies elements that were already collected. Combining the partial
+ * results of a parallel stream only concatenates their chunk lists, and the
+ * finisher copies all chunks once into an exactly sized backing array, or
+ * adopts the only chunk without copying when everything fit into one.
+ * <p>
+ * An expected size only presizes the first chunk of the first container
+ * that each {@link #supplier()} creates. A stream asks for the supplier once
+ * per evaluation and a parallel stream then creates one container per leaf
+ * task; presizing all of them would allocate the expected size once per
+ * leaf, so the other containers start with chunks of the expected size
+ * divided by the expected number of leaves. The collector itself holds no
+ * state and can be reused for any number of streams.
+ *
+ * @param <S> the type of the collected elements
+ */
+final class CustomListCollector<S> implements Collector<S, CustomListCollector.Chunks, CustomList<S>> {
+
+    private static final int MIN_CHUNK_LENGTH = 16;
+
+    private static final int MAX_CHUNK_LENGTH = 1 << 20;
+
+    /**
+     * The number of leaf tasks a parallel stream splits into per worker
+     * thread, as targeted by the stream implementation.
+     */
+    private static final int LEAVES_PER_THREAD = 4;
+
+    private final int firstChunkLength;
+
+    private final int leafChunkLength;
+
+    CustomListCollector(int expectedSize) {
+        if (expectedSize < 0)
+            throw new IllegalArgumentException("Illegal expected size: " + expectedSize);
+        this.firstChunkLength = Math.max(MIN_CHUNK_LENGTH, expectedSize);
+        int leaves = LEAVES_PER_THREAD * ForkJoinPool.getCommonPoolParallelism();
+        this.leafChunkLength = Math.max(MIN_CHUNK_LENGTH, Math.min(expectedSize / leaves, MAX_CHUNK_LENGTH));
+    }
+
+    /**
+     * Returns a collector that gathers the elements into chunks and leaves
+     * copying them to the caller.
+     */
+    static <S> Collector<S, Chunks, Chunks> chunks() {
+        return Collector.of(() -> new Chunks(MIN_CHUNK_LENGTH), Chunks::add, Chunks::append,
+                Characteristics.IDENTITY_FINISH);
+    }
+
+    /**
+     * Returns a supplier that presizes the first container it creates.
+     */
+    @Override
+    public Supplier<Chunks> supplier() {
+        AtomicBoolean presized = new AtomicBoolean();
+        return () -> new Chunks(presized.compareAndSet(false, true) ? firstChunkLength : leafChunkLength);
+    }
+
+    @Override
+    public BiConsumer<Chunks, S> accumulator() {
+        return Chunks::add;
+    }
+
+    @Override
+    public BinaryOperator<Chunks> combiner() {
+        return Chunks::append;
+    }
+
+    @Override
+    public Function<Chunks, CustomList<S>> finisher() {
+        return chunks -> new CustomList<>(chunks.toArray(), chunks.size());
+    }
+
+    @Override
+    public Set<Characteristics> characteristics() {
+        return Collections.emptySet();
+    }
+
+    /**
+     * The mutable result container: a list of partially filled chunks.
+     */
+    static final class Chunks {
+
+        private static final Object[][] NO_CHUNKS = {};
+
+        private final int firstChunkLength;
+
+        private Object[][] chunks = NO_CHUNKS;
+
+        /**
+         * The number of elements in each chunk; the entry of the last chunk
+         * is only current after {@link #seal()}.
+         */
+        private int[] counts;
+
+        private int chunkCount;
+
+        /**
+         * The last chunk, into which elements are added, and its count.
+         */
+        private Object[] current = NO_CHUNKS;
+
+        private int count;
+
+        Chunks(int firstChunkLength) {
+            this.firstChunkLength = firstChunkLength;
+        }
+
+        void add(Object element) {
+            if (count == current.length)
+                newChunk();
+            current[count++] = element;
+        }
+
+        private void newChunk() {
+            seal();
+            int length = chunkCount == 0
+                    ? firstChunkLength
+                    : Math.max(current.length, Math.min(current.length << 1, MAX_CHUNK_LENGTH));
+            if (chunkCount == chunks.length) {
+                int n = CustomList.newLength(chunkCount, chunkCount + 1);
+                chunks = Arrays.copyOf(chunks, n);
+                counts = counts == null ? new int[n] : Arrays.copyOf(counts, n);
+            }
+            chunks[chunkCount++] = current = new Object[length];
+            count = 0;
+        }
+
+        private void seal() {
+            if (chunkCount > 0)
+                counts[chunkCount - 1] = count;
+        }
+
+        /**
+         * Appends the chunks of {@code other} to this container without
+         * copying their elements.
+         */
+        Chunks append(Chunks other) {
+            if (other.chunkCount == 0)
+                return this;
+            if (chunkCount == 0)
+                return other;
+            seal();
+            other.seal();
+            int n = chunkCount + other.chunkCount;
+            if (n > chunks.length) {
+                chunks = Arrays.copyOf(chunks, n);
+                counts = Arrays.copyOf(counts, n);
+            }
+            System.arraycopy(other.chunks, 0, chunks, chunkCount, other.chunkCount);
+            System.arraycopy(other.counts, 0, counts, chunkCount, other.chunkCount);
+            chunkCount = n;
+            current = other.current;
+            count = other.count;
+            return this;
+        }
+
+        /**
+         * Returns the number of collected elements.
+         *
+         * @throws OutOfMemoryError if they do not fit into one array
+         */
+        int size() {
+            seal();
+            long size = 0;
+            for (int i = 0; i < chunkCount; i++)
+                size += counts[i];
+            if (size > CustomList.SOFT_MAX_ARRAY_LENGTH)
+                throw new OutOfMemoryError("Required array length " + size + " is too large");
+            return (int) size;
+        }
+
+        /**
+         * Returns the collected elements in an array of at least
+         * {@link #size()} elements: the only chunk itself if there is just
+         * one, otherwise a single exactly sized copy of all chunks.
+         */
+        Object[] toArray() {
+            int size = size();
+            if (chunkCount == 1)
+                return current;
+            Object[] a = new Object[size];
+            copyTo(a, 0);
+            return a;
+        }
+
+        /**
+         * Copies the collected elements into {@code dst} starting at
+         * {@code pos}.
+         */
+        void copyTo(Object[] dst, int pos) {
+            seal();
+            for (int i = 0; i < chunkCount; i++) {
+                System.arraycopy(chunks[i], 0, dst, pos, counts[i]);
+                pos += counts[i];
+            }
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package org.example;
+
+import com.sun.management.HotSpotDiagnosticMXBean;
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * JDK Flight Recorder events emitted by {@link CustomList}.
+ * <p>
+ * {@link Resize} is emitted whenever the backing array is reallocated, by
+ * {@code grow(int)} (and through it by {@code ensureCapacity(int)} and the
+ * bulk additions) and by {@code trimToSize()}. {@link Copy} is emitted when
+ * an insertion or removal shifts at least {@link #COPY_THRESHOLD} elements
+ * with {@code System.arraycopy}. Both carry a stack trace, so a recording
+ * shows which call sites cause allocation and copying.
+ * <p>
+ * When no recording has the events enabled, the JVM leaves the event
+ * classes uninstrumented and {@code isEnabled()} is a constant
+ * {@code false} that the JIT folds away, so the hooks cost nothing but the
+ * threshold comparison. The copy threshold defaults to 65536 elements and
+ * is read once, when this class is initialized, from the system property
+ * {@code org.example.jfr.copyThreshold}.
+ */
+final class CustomListEvents {
+
+    /**
+     * The smallest number of shifted elements that emits a {@link Copy}
+     * event. A constant, so that the JIT folds the threshold comparison.
+     */
+    static final int COPY_THRESHOLD = Integer.getInteger("org.example.jfr.copyThreshold", 1 << 16);
+
+    private CustomListEvents() {
+    }
+
+    @Name("org.example.CustomList.Resize")
+    @Label("CustomList Resize")
+    @Description("The backing array of a CustomList was reallocated")
+    @Category("CustomList")
+    @StackTrace
+    static final class Resize extends Event {
+        @Label("Operation")
+        String operation;
+
+        @Label("Old Capacity")
+        int oldCapacity;
+
+        @Label("New Capacity")
+        int newCapacity;
+
+        @Label("Bytes Copied")
+        @DataAmount
+        long bytesCopied;
+    }
+
+    @Name("org.example.CustomList.Copy")
+    @Label("CustomList Large Copy")
+    @Description("A CustomList shifted many elements of its backing array")
+    @Category("CustomList")
+    @StackTrace
+    static final class Copy extends Event {
+        @Label("Operation")
+        String operation;
+
+        @Label("Old Capacity")
+        int oldCapacity;
+
+        @Label("New Capacity")
+        int newCapacity;
+
+        @Label("Bytes Copied")
+        @DataAmount
+        long bytesCopied;
+    }
+
+    /**
+     * Records that the backing array was reallocated from
+     * {@code oldCapacity} to {@code newCapacity}, copying {@code copied}
+     * elements.
+     */
+    static void resized(String operation, int oldCapacity, int newCapacity, int copied) {
+        Resize event = new Resize();
+        if (event.isEnabled()) {
+            event.operation = operation;
+            event.oldCapacity = oldCapacity;
+            event.newCapacity = newCapacity;
+            event.bytesCopied = (long) copied * ReferenceSize.BYTES;
+            event.commit();
+        }
+    }
+
+    /**
+     * Records that {@code copied} elements were shifted within a backing
+     * array, which was grown from {@code oldCapacity} to
+     * {@code newCapacity} first if the two differ.
+     */
+    static void copied(String operation, int oldCapacity, int newCapacity, int copied) {
+        Copy event = new Copy();
+        if (event.isEnabled()) {
+            event.operation = operation;
+            event.oldCapacity = oldCapacity;
+            event.newCapacity = newCapacity;
+            event.bytesCopied = (long) copied * ReferenceSize.BYTES;
+            event.commit();
+        }
+    }
+
+    /**
+     * Size of an element slot in an {@code Object[]}, looked up only when
+     * the first event is committed.
+     */
+    private static final class ReferenceSize {
+        static final int BYTES = lookup();
+
+        private static int lookup() {
+            try {
+                HotSpotDiagnosticMXBean hotSpot = ManagementFactory.getPlatformMXBean(HotSpotDiagnosticMXBean.class);
+                return Boolean.parseBoolean(hotSpot.getVMOption("UseCompressedOops").getValue()) ? 4 : 8;
+            } catch (RuntimeException | LinkageError e) {
+                // no HotSpot diagnostic bean, e.g. without jdk.management
+                return 8;
+            }
+        }
+    }
+}
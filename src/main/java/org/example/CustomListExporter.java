@@ -0,0 +1,330 @@
+package org.example;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Iterator;
+
+/**
+ * Writes the elements of a {@link CustomList}, or of any collection, to an
+ * {@link Appendable}, a {@link Writer} or a {@link WritableByteChannel}
+ * without building the whole text in memory first, as
+ * {@link CustomList#toString()} does.
+ * <p>
+ * The text is formatted into a character buffer of {@link #getChunkSize()}
+ * characters, which is handed to the destination whenever it fills up, so
+ * memory use is bounded by the chunk size and the longest element string no
+ * matter how long the list is. Channels receive the text encoded with
+ * {@link #getCharset()} through a byte buffer of matching size.
+ * <p>
+ * An exporter is configured with chained setters and can be reused:
+ * <pre>{@code
+ * new CustomListExporter().setFormat(Format.JSON).setMaxElements(1000).export(list, writer);
+ * }</pre>
+ */
+@Getter
+@Setter
+@Accessors(chain = true)
+public class CustomListExporter {
+
+    /**
+     * The output formats.
+     */
+    public enum Format {
+        /**
+         * The format of {@link CustomList#toString()}: {@code [a, b, c]}. A
+         * truncated list ends with {@code ... (n more)}.
+         */
+        TEXT,
+        /**
+         * One element per record in a single column, as in RFC 4180: every
+         * record ends with CRLF, and a field is quoted when it contains a
+         * comma, a quote or a line break; {@code null} is an empty field.
+         */
+        CSV,
+        /**
+         * A JSON array. Boxed integers, finite boxed floating-point values
+         * and booleans are written as JSON numbers and booleans, {@code null}
+         * as {@code null} and all other elements as strings of their
+         * {@code toString()}.
+         */
+        JSON
+    }
+
+    static final int DEFAULT_CHUNK_SIZE = 8192;
+
+    @NonNull
+    private Format format = Format.TEXT;
+
+    /**
+     * The maximum number of elements written; the rest are left out.
+     */
+    private int maxElements = Integer.MAX_VALUE;
+
+    /**
+     * The number of characters buffered before they are written.
+     */
+    private int chunkSize = DEFAULT_CHUNK_SIZE;
+
+    /**
+     * The charset used to encode the text for channels.
+     */
+    @NonNull
+    private Charset charset = StandardCharsets.UTF_8;
+
+    /**
+     * Sets the maximum number of elements written.
+     *
+     * @throws IllegalArgumentException if {@code maxElements} is negative
+     */
+    public CustomListExporter setMaxElements(int maxElements) {
+        if (maxElements < 0)
+            throw new IllegalArgumentException("Illegal max elements: " + maxElements);
+        this.maxElements = maxElements;
+        return this;
+    }
+
+    /**
+     * Sets the number of characters buffered before they are written.
+     *
+     * @throws IllegalArgumentException if {@code chunkSize} is less than 2
+     */
+    public CustomListExporter setChunkSize(int chunkSize) {
+        if (chunkSize < 2)
+            throw new IllegalArgumentException("Illegal chunk size: " + chunkSize);
+        this.chunkSize = chunkSize;
+        return this;
+    }
+
+    /**
+     * Writes the elements to the appendable, one chunk at a time.
+     *
+     * @throws IOException if appending fails
+     */
+    public void export(Collection<?> c, Appendable out) throws IOException {
+        new Output(chunkSize) {
+            @Override
+            void write(char[] buf, int len) throws IOException {
+                out.append(CharBuffer.wrap(buf, 0, len));
+            }
+        }.export(c, this);
+    }
+
+    /**
+     * Writes the elements to the writer, one chunk at a time. The writer is
+     * flushed but not closed.
+     *
+     * @throws IOException if writing fails
+     */
+    public void export(Collection<?> c, Writer out) throws IOException {
+        new Output(chunkSize) {
+            @Override
+            void write(char[] buf, int len) throws IOException {
+                out.write(buf, 0, len);
+            }
+        }.export(c, this);
+        out.flush();
+    }
+
+    /**
+     * Writes the elements to the channel, encoded with the charset of this
+     * exporter, one chunk at a time. The channel is not closed.
+     *
+     * @throws CharacterCodingException if an element cannot be encoded
+     * @throws IOException              if writing to the channel fails
+     */
+    public void export(Collection<?> c, WritableByteChannel channel) throws IOException {
+        CharsetEncoder encoder = charset.newEncoder();
+        ByteBuffer bytes = ByteBuffer.allocate((int) Math.ceil(chunkSize * (double) encoder.maxBytesPerChar()));
+        new Output(chunkSize) {
+            @Override
+            void write(char[] buf, int len) throws IOException {
+                CharBuffer chars = CharBuffer.wrap(buf, 0, len);
+                for (; ; ) {
+                    CoderResult result = encoder.encode(chars, bytes, false);
+                    if (result.isError())
+                        result.throwException();
+                    drain();
+                    if (result.isUnderflow())
+                        return;
+                }
+            }
+
+            @Override
+            void close() throws IOException {
+                encoder.encode(CharBuffer.allocate(0), bytes, true);
+                encoder.flush(bytes);
+                drain();
+            }
+
+            private void drain() throws IOException {
+                bytes.flip();
+                while (bytes.hasRemaining())
+                    channel.write(bytes);
+                bytes.clear();
+            }
+        }.export(c, this);
+    }
+
+    /**
+     * Formats elements into a bounded character buffer and writes it to the
+     * destination whenever it fills up.
+     */
+    private abstract static class Output {
+        private final char[] buf;
+        private int len;
+
+        Output(int chunkSize) {
+            this.buf = new char[chunkSize];
+        }
+
+        /**
+         * Writes the first {@code len} characters of the buffer.
+         */
+        abstract void write(char[] buf, int len) throws IOException;
+
+        /**
+         * Completes the output after the last chunk.
+         */
+        void close() throws IOException {
+        }
+
+        private void flush() throws IOException {
+            // keep a trailing high surrogate with its low surrogate, so that
+            // every chunk can be encoded on its own
+            int n = Character.isHighSurrogate(buf[len - 1]) ? len - 1 : len;
+            write(buf, n);
+            if (n < len)
+                buf[0] = buf[n];
+            len -= n;
+        }
+
+        void append(char ch) throws IOException {
+            if (len == buf.length)
+                flush();
+            buf[len++] = ch;
+        }
+
+        void append(String s) throws IOException {
+            for (int i = 0, n = s.length(); i < n; ) {
+                if (len == buf.length)
+                    flush();
+                int count = Math.min(n - i, buf.length - len);
+                s.getChars(i, i + count, buf, len);
+                len += count;
+                i += count;
+            }
+        }
+
+        void export(Collection<?> c, CustomListExporter exporter) throws IOException {
+            Format format = exporter.format;
+            int limit = exporter.maxElements;
+            int written = 0;
+            if (format != Format.CSV)
+                append('[');
+            for (Iterator<?> it = c.iterator(); it.hasNext() && written < limit; written++) {
+                Object e = it.next();
+                if (written > 0 && format != Format.CSV)
+                    append(format == Format.TEXT ? ", " : ",");
+                switch (format) {
+                    case TEXT:
+                        append(e == c ? "(this Collection)" : String.valueOf(e));
+                        break;
+                    case CSV:
+                        appendCsv(e);
+                        append("\r\n");
+                        break;
+                    default:
+                        appendJson(e);
+                }
+            }
+            if (format == Format.TEXT && written < c.size())
+                append((written > 0 ? ", ... (" : "... (") + (c.size() - written) + " more)");
+            if (format != Format.CSV)
+                append(']');
+            if (len > 0)
+                write(buf, len);
+            len = 0;
+            close();
+        }
+
+        private void appendCsv(Object e) throws IOException {
+            if (e == null)
+                return;
+            String s = e.toString();
+            boolean quote = false;
+            for (int i = 0; i < s.length() && !quote; i++) {
+                char ch = s.charAt(i);
+                quote = ch == ',' || ch == '"' || ch == '\n' || ch == '\r';
+            }
+            if (!quote) {
+                append(s);
+                return;
+            }
+            append('"');
+            for (int i = 0; i < s.length(); i++) {
+                char ch = s.charAt(i);
+                if (ch == '"')
+                    append('"');
+                append(ch);
+            }
+            append('"');
+        }
+
+        private void appendJson(Object e) throws IOException {
+            if (e == null || e instanceof Boolean
+                    || e instanceof Integer || e instanceof Long || e instanceof Short || e instanceof Byte) {
+                append(String.valueOf(e));
+                return;
+            }
+            if (e instanceof Double || e instanceof Float) {
+                double d = ((Number) e).doubleValue();
+                if (!Double.isNaN(d) && !Double.isInfinite(d)) {
+                    append(e.toString());
+                    return;
+                }
+            }
+            String s = e.toString();
+            append('"');
+            for (int i = 0; i < s.length(); i++) {
+                char ch = s.charAt(i);
+                switch (ch) {
+                    case '"':
+                        append("\\\"");
+                        break;
+                    case '\\':
+                        append("\\\\");
+                        break;
+                    case '\n':
+                        append("\\n");
+                        break;
+                    case '\r':
+                        append("\\r");
+                        break;
+                    case '\t':
+                        append("\\t");
+                        break;
+                    default:
+                        if (ch < 0x20)
+                            append(String.format("\\u%04x", (int) ch));
+                        else
+                            append(ch);
+                }
+            }
+            append('"');
+        }
+    }
+}
@@ -0,0 +1,293 @@
+package org.example;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Objects;
+
+/**
+ * The optional value-to-positions hash index of a {@link CustomList}.
+ * <p>
+ * Every distinct element maps to the positions it occupies in ascending
+ * order. An element found at a single position, the common case, maps to an
+ * {@code Integer}; elements found at several positions map to an
+ * {@link IntCustomList}. Appends, removal of the last element and
+ * replacements keep the index up to date.
+ * <p>
+ * Inserting or removing a single element in the middle shifts the positions
+ * of all following elements. Instead of rewriting them, the index records
+ * the shift in a short log and translates stored positions through it on
+ * lookup, and it keeps elements recorded after the first shift in a small
+ * overlay with current positions. Once the log and the overlay together
+ * hold more than about the square root of the list size entries, which
+ * bounds the cost of a lookup, and on bulk changes such as sorting, the
+ * index is marked stale instead and the next lookup rebuilds it in one pass.
+ */
+final class CustomListIndex {
+
+    /**
+     * The smallest number of pending shifts and overlay entries allowed
+     * before a rebuild.
+     */
+    private static final int MIN_PENDING = 16;
+
+    private final HashMap<Object, Object> positions = new HashMap<>();
+
+    private boolean stale = true;
+
+    /**
+     * The shift log: every stored position {@code p >= shiftFrom[k]} moves
+     * by {@code shiftBy[k]}, applied in order.
+     */
+    private int[] shiftFrom = new int[MIN_PENDING];
+
+    private int[] shiftBy = new int[MIN_PENDING];
+
+    private int shifts;
+
+    /**
+     * Elements recorded since the first logged shift, at their current
+     * positions.
+     */
+    private Object[] addedElements = new Object[MIN_PENDING];
+
+    private int[] addedPositions = new int[MIN_PENDING];
+
+    private int added;
+
+    /**
+     * The number of index rebuilds, for tests.
+     */
+    int rebuilds;
+
+    /**
+     * Drops the index so that the next lookup rebuilds it.
+     */
+    void invalidate() {
+        if (!stale) {
+            stale = true;
+            clearAll();
+        }
+    }
+
+    /**
+     * Resets the index to the one of an empty list.
+     */
+    void reset() {
+        clearAll();
+        stale = false;
+    }
+
+    private void clearAll() {
+        positions.clear();
+        shifts = 0;
+        Arrays.fill(addedElements, 0, added, null);
+        added = 0;
+    }
+
+    private void ensureFresh(Object[] es, int size) {
+        if (stale) {
+            stale = false;
+            rebuilds++;
+            for (int i = 0; i < size; i++)
+                append(es[i], i);
+        }
+    }
+
+    /**
+     * Returns the current position of the stored position {@code p}.
+     */
+    private int translate(int p) {
+        final int[] from = shiftFrom, by = shiftBy;
+        for (int k = 0, n = shifts; k < n; k++)
+            if (p >= from[k])
+                p += by[k];
+        return p;
+    }
+
+    /**
+     * Returns {@code true} if the log and the overlay are too long for a list
+     * of {@code size} elements, after invalidating the index.
+     */
+    private boolean invalidateIfFull(int size) {
+        if (shifts + added < Math.max(MIN_PENDING, (int) Math.sqrt(size)))
+            return false;
+        invalidate();
+        return true;
+    }
+
+    private void logShift(int from, int by) {
+        for (int j = 0; j < added; j++)
+            if (addedPositions[j] >= from)
+                addedPositions[j] += by;
+        if (shifts == shiftFrom.length) {
+            shiftFrom = Arrays.copyOf(shiftFrom, CustomList.newLength(shifts, shifts + 1));
+            shiftBy = Arrays.copyOf(shiftBy, shiftFrom.length);
+        }
+        shiftFrom[shifts] = from;
+        shiftBy[shifts++] = by;
+    }
+
+    private void addToOverlay(Object e, int position) {
+        if (added == addedElements.length) {
+            addedElements = Arrays.copyOf(addedElements, CustomList.newLength(added, added + 1));
+            addedPositions = Arrays.copyOf(addedPositions, addedElements.length);
+        }
+        addedElements[added] = e;
+        addedPositions[added++] = position;
+    }
+
+    /**
+     * Records that {@code e} was inserted at {@code position}, shifting the
+     * elements from there on, in a list now holding {@code size} elements.
+     */
+    void shiftInsert(Object e, int position, int size) {
+        if (stale || invalidateIfFull(size))
+            return;
+        logShift(position, 1);
+        addToOverlay(e, position);
+    }
+
+    /**
+     * Records that {@code e} was removed from {@code position}, shifting the
+     * following elements down, in a list that held {@code size} elements.
+     */
+    void shiftRemove(Object e, int position, int size) {
+        if (stale || invalidateIfFull(size))
+            return;
+        remove(e, position);
+        if (!stale)
+            logShift(position + 1, -1);
+    }
+
+    /**
+     * Records {@code e} at {@code position}, which must be larger than any
+     * position recorded so far.
+     */
+    void append(Object e, int position) {
+        if (stale)
+            return;
+        if (shifts > 0) {
+            addToOverlay(e, position);
+            invalidateIfFull(position + 1);
+            return;
+        }
+        Object p = positions.putIfAbsent(e, position);
+        if (p instanceof Integer) {
+            positions.put(e, IntCustomList.of((Integer) p, position));
+        } else if (p != null) {
+            ((IntCustomList) p).add(position);
+        }
+    }
+
+    /**
+     * Records {@code e} at {@code position}, keeping its positions sorted,
+     * in a list of {@code size} elements.
+     */
+    void insert(Object e, int position, int size) {
+        if (stale)
+            return;
+        if (shifts > 0) {
+            addToOverlay(e, position);
+            invalidateIfFull(size);
+            return;
+        }
+        Object p = positions.putIfAbsent(e, position);
+        if (p instanceof Integer) {
+            int other = (Integer) p;
+            positions.put(e, other < position
+                    ? IntCustomList.of(other, position)
+                    : IntCustomList.of(position, other));
+        } else if (p != null) {
+            IntCustomList list = (IntCustomList) p;
+            int k = Arrays.binarySearch(list.elementData, 0, list.size(), position);
+            list.add(-(k + 1), position);
+        }
+    }
+
+    /**
+     * Forgets that {@code e} is at {@code position}.
+     */
+    void remove(Object e, int position) {
+        if (stale)
+            return;
+        for (int j = 0; j < added; j++) {
+            if (addedPositions[j] == position) {
+                int last = --added;
+                addedElements[j] = addedElements[last];
+                addedPositions[j] = addedPositions[last];
+                addedElements[last] = null;
+                return;
+            }
+        }
+        Object p = positions.get(e);
+        if (p instanceof Integer && translate((Integer) p) == position) {
+            positions.remove(e);
+        } else if (p instanceof IntCustomList) {
+            IntCustomList list = (IntCustomList) p;
+            int k = indexOfPosition(list, position);
+            if (k < 0) {
+                invalidate();
+                return;
+            }
+            list.removeAt(k);
+            if (list.size() == 1)
+                positions.put(e, list.get(0));
+        } else {
+            invalidate(); // not where the list says it is
+        }
+    }
+
+    /**
+     * Returns the index in {@code list} of the stored position that
+     * translates to {@code position}, or -1. Translation preserves the order
+     * of stored positions, so the search is binary.
+     */
+    private int indexOfPosition(IntCustomList list, int position) {
+        final int[] ps = list.elementData;
+        int lo = 0, hi = list.size() - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            int p = translate(ps[mid]);
+            if (p < position)
+                lo = mid + 1;
+            else if (p > position)
+                hi = mid - 1;
+            else
+                return mid;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the lowest position of {@code o}, or -1 if it is absent.
+     */
+    int first(Object o, Object[] es, int size) {
+        ensureFresh(es, size);
+        Object p = positions.get(o);
+        int first = p == null ? Integer.MAX_VALUE
+                : translate(p instanceof Integer ? (Integer) p : ((IntCustomList) p).get(0));
+        for (int j = 0; j < added; j++)
+            if (addedPositions[j] < first && Objects.equals(o, addedElements[j]))
+                first = addedPositions[j];
+        return first == Integer.MAX_VALUE ? -1 : first;
+    }
+
+    /**
+     * Returns the highest position of {@code o}, or -1 if it is absent.
+     */
+    int last(Object o, Object[] es, int size) {
+        ensureFresh(es, size);
+        Object p = positions.get(o);
+        int last = -1;
+        if (p instanceof Integer) {
+            last = translate((Integer) p);
+        } else if (p != null) {
+            IntCustomList list = (IntCustomList) p;
+            last = translate(list.get(list.size() - 1));
+        }
+        for (int j = 0; j < added; j++)
+            if (addedPositions[j] > last && Objects.equals(o, addedElements[j]))
+                last = addedPositions[j];
+        return last;
+    }
+}
@@ -0,0 +1,305 @@
+package org.example;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Operation counters and histograms of the {@link CustomList} instances
+ * that share a name, exposed over JMX.
+ * <p>
+ * Lists opt in with {@link CustomList#enableMetrics(String)}. All lists
+ * enabled with the same name report to the same instance, which is
+ * registered with the platform MBean server on first use. Counters and
+ * histogram buckets are {@link LongAdder}s, so lists on different threads do
+ * not contend on a shared cache line, and a list without metrics pays a
+ * single null check per operation.
+ * <p>
+ * Only grows, which copy the whole backing array, are timed. The cost of
+ * scans and shifts is linear in their length, and a length is free to
+ * record where two {@link System#nanoTime()} calls would cost more than a
+ * short scan itself, so their histograms hold lengths as a stand-in for
+ * latency.
+ */
+public final class CustomListMetrics implements CustomListMetricsMXBean {
+
+    private static final ConcurrentHashMap<String, CustomListMetrics> REGISTRY = new ConcurrentHashMap<>();
+
+    private final String name;
+
+    private final ObjectName objectName;
+
+    private final LongAdder adds = new LongAdder();
+
+    private final LongAdder removes = new LongAdder();
+
+    private final LongAdder grows = new LongAdder();
+
+    private final LongAdder elementsShifted = new LongAdder();
+
+    private final LongAdder elementsScanned = new LongAdder();
+
+    private final LogHistogram scanLengths = new LogHistogram();
+
+    private final LogHistogram shiftLengths = new LogHistogram();
+
+    private final LogHistogram growNanos = new LogHistogram();
+
+    private CustomListMetrics(String name) {
+        this.name = name;
+        try {
+            this.objectName = new ObjectName("org.example:type=CustomListMetrics,name=" + ObjectName.quote(name));
+        } catch (JMException e) {
+            throw new IllegalArgumentException("Invalid metrics name: " + name, e);
+        }
+    }
+
+    /**
+     * Returns the metrics of the given name, creating and registering them
+     * with the platform MBean server if necessary.
+     *
+     * @throws IllegalStateException if the MBean cannot be registered
+     */
+    public static CustomListMetrics forName(String name) {
+        return REGISTRY.computeIfAbsent(name, n -> {
+            CustomListMetrics metrics = new CustomListMetrics(n);
+            try {
+                ManagementFactory.getPlatformMBeanServer().registerMBean(metrics, metrics.objectName);
+            } catch (JMException e) {
+                throw new IllegalStateException("Cannot register " + metrics.objectName, e);
+            }
+            return metrics;
+        });
+    }
+
+    /**
+     * Unregisters the metrics of the given name. Lists that still report to
+     * them keep counting, but the counts are no longer visible over JMX.
+     */
+    public static void unregister(String name) {
+        CustomListMetrics metrics = REGISTRY.remove(name);
+        if (metrics != null) {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            try {
+                server.unregisterMBean(metrics.objectName);
+            } catch (JMException e) {
+                // already unregistered by a JMX client
+            }
+        }
+    }
+
+    /**
+     * Returns the name under which these metrics are registered.
+     */
+    public ObjectName getObjectName() {
+        return objectName;
+    }
+
+    // Recording, called by CustomList
+
+    void added(int count) {
+        adds.add(count);
+    }
+
+    void removed(int count) {
+        removes.add(count);
+    }
+
+    void grown(long nanos) {
+        grows.increment();
+        growNanos.record(Math.max(0, nanos));
+    }
+
+    void shifted(int length) {
+        if (length > 0) {
+            elementsShifted.add(length);
+            shiftLengths.record(length);
+        }
+    }
+
+    void scanned(int length) {
+        elementsScanned.add(length);
+        scanLengths.record(length);
+    }
+
+    // CustomListMetricsMXBean
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public long getAdds() {
+        return adds.sum();
+    }
+
+    @Override
+    public long getRemoves() {
+        return removes.sum();
+    }
+
+    @Override
+    public long getGrows() {
+        return grows.sum();
+    }
+
+    @Override
+    public long getElementsShifted() {
+        return elementsShifted.sum();
+    }
+
+    @Override
+    public long getScans() {
+        return scanLengths.count();
+    }
+
+    @Override
+    public long getElementsScanned() {
+        return elementsScanned.sum();
+    }
+
+    @Override
+    public long getScanLengthP50() {
+        return scanLengths.percentile(50);
+    }
+
+    @Override
+    public long getScanLengthP99() {
+        return scanLengths.percentile(99);
+    }
+
+    @Override
+    public long getScanLengthMax() {
+        return scanLengths.max();
+    }
+
+    @Override
+    public long getShiftLengthP50() {
+        return shiftLengths.percentile(50);
+    }
+
+    @Override
+    public long getShiftLengthP99() {
+        return shiftLengths.percentile(99);
+    }
+
+    @Override
+    public long getShiftLengthMax() {
+        return shiftLengths.max();
+    }
+
+    @Override
+    public long getGrowNanosP50() {
+        return growNanos.percentile(50);
+    }
+
+    @Override
+    public long getGrowNanosP99() {
+        return growNanos.percentile(99);
+    }
+
+    @Override
+    public long getGrowNanosMax() {
+        return growNanos.max();
+    }
+
+    @Override
+    public void reset() {
+        adds.reset();
+        removes.reset();
+        grows.reset();
+        elementsShifted.reset();
+        elementsScanned.reset();
+        scanLengths.reset();
+        shiftLengths.reset();
+        growNanos.reset();
+    }
+
+    /**
+     * A histogram of non-negative values with log-linear buckets, in the
+     * style of HdrHistogram: values below 4 get a bucket each, and every
+     * power-of-two range above is split into four equal sub-buckets, so a
+     * bucket is at most 25% wide relative to its values.
+     */
+    static final class LogHistogram {
+
+        private static final int SUB_BITS = 2;
+
+        private static final int SUB_BUCKETS = 1 << SUB_BITS;
+
+        private static final int BUCKETS = (Long.SIZE - SUB_BITS) * SUB_BUCKETS;
+
+        private final LongAdder[] counts = new LongAdder[BUCKETS];
+
+        private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+        LogHistogram() {
+            for (int i = 0; i < BUCKETS; i++)
+                counts[i] = new LongAdder();
+        }
+
+        static int bucketOf(long value) {
+            if (value < SUB_BUCKETS)
+                return (int) value;
+            int exp = 63 - Long.numberOfLeadingZeros(value);
+            int sub = (int) (value >>> (exp - SUB_BITS)) & (SUB_BUCKETS - 1);
+            return (exp - SUB_BITS + 1) * SUB_BUCKETS + sub;
+        }
+
+        /**
+         * Returns the largest value that falls into the bucket.
+         */
+        static long highestValueIn(int bucket) {
+            if (bucket < SUB_BUCKETS)
+                return bucket;
+            int exp = bucket / SUB_BUCKETS + SUB_BITS - 1;
+            long lowest = (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << (exp - SUB_BITS);
+            return lowest + (1L << (exp - SUB_BITS)) - 1;
+        }
+
+        void record(long value) {
+            counts[bucketOf(value)].increment();
+            max.accumulate(value);
+        }
+
+        long count() {
+            long n = 0;
+            for (int i = 0; i < BUCKETS; i++)
+                n += counts[i].sum();
+            return n;
+        }
+
+        long max() {
+            return max.get();
+        }
+
+        /**
+         * Returns an upper bound of the given percentile of the recorded
+         * values, or zero if none were recorded.
+         */
+        long percentile(double percentile) {
+            long total = count();
+            if (total == 0)
+                return 0;
+            long rank = Math.max(1, (long) Math.ceil(total * percentile / 100));
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += counts[i].sum();
+                if (seen >= rank)
+                    return Math.min(highestValueIn(i), max());
+            }
+            return max();
+        }
+
+        void reset() {
+            for (int i = 0; i < BUCKETS; i++)
+                counts[i].reset();
+            max.reset();
+        }
+    }
+}
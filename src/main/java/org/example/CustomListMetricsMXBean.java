@@ -0,0 +1,103 @@
+package org.example;
+
+/**
+ * Management interface of {@link CustomListMetrics}, registered with the
+ * platform MBean server as
+ * {@code org.example:type=CustomListMetrics,name=<name>}.
+ * <p>
+ * Percentiles are read from log-linear histograms and are accurate to
+ * within 25%; maxima are exact.
+ */
+public interface CustomListMetricsMXBean {
+
+    /**
+     * Returns the name shared by the lists reporting to these metrics.
+     */
+    String getName();
+
+    /**
+     * Returns the number of elements added.
+     */
+    long getAdds();
+
+    /**
+     * Returns the number of elements removed.
+     */
+    long getRemoves();
+
+    /**
+     * Returns the number of times a backing array was grown.
+     */
+    long getGrows();
+
+    /**
+     * Returns the total number of elements moved by insertions and
+     * removals.
+     */
+    long getElementsShifted();
+
+    /**
+     * Returns the number of linear scans for an element.
+     */
+    long getScans();
+
+    /**
+     * Returns the total number of elements visited by linear scans.
+     */
+    long getElementsScanned();
+
+    /**
+     * Returns the median number of elements visited by a linear scan.
+     */
+    long getScanLengthP50();
+
+    /**
+     * Returns the 99th percentile of the number of elements visited by a
+     * linear scan.
+     */
+    long getScanLengthP99();
+
+    /**
+     * Returns the largest number of elements visited by a linear scan.
+     */
+    long getScanLengthMax();
+
+    /**
+     * Returns the median number of elements moved by an insertion or
+     * removal that shifted any.
+     */
+    long getShiftLengthP50();
+
+    /**
+     * Returns the 99th percentile of the number of elements moved by an
+     * insertion or removal that shifted any.
+     */
+    long getShiftLengthP99();
+
+    /**
+     * Returns the largest number of elements moved by an insertion or
+     * removal.
+     */
+    long getShiftLengthMax();
+
+    /**
+     * Returns the median time in nanoseconds taken to grow a backing array.
+     */
+    long getGrowNanosP50();
+
+    /**
+     * Returns the 99th percentile of the time in nanoseconds taken to grow a
+     * backing array.
+     */
+    long getGrowNanosP99();
+
+    /**
+     * Returns the longest time in nanoseconds taken to grow a backing array.
+     */
+    long getGrowNanosMax();
+
+    /**
+     * Resets all counters and histograms to zero.
+     */
+    void reset();
+}
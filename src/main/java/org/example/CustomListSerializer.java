@@ -0,0 +1,452 @@
+package org.example;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+
+/**
+ * A compact binary format for {@link CustomList} and its primitive siblings,
+ * written to and read from NIO channels through large direct buffers.
+ * <p>
+ * Every stream starts with a header: the magic number {@code "CLSB"}, a
+ * format version, the payload kind and the element count. Object payloads
+ * follow as one frame per element: the encoded length plus one as an
+ * unsigned varint ({@code 0} marks a {@code null} element), then the bytes
+ * written by the {@link ElementCodec}. Primitive payloads of
+ * {@link IntCustomList}, {@link LongCustomList} and {@link DoubleCustomList}
+ * are block-copied as raw little-endian values without any framing.
+ * <p>
+ * Reading restores straight into an {@code elementData} array that the
+ * returned list adopts, with no intermediate collection. The array is
+ * presized to the element count when the channel tells how much input
+ * remains (a {@link SeekableByteChannel} such as a file channel), and a
+ * count the remaining input cannot hold is rejected up front. Other
+ * channels grow the array as the data arrives, so a corrupt count cannot
+ * force a huge allocation.
+ * <p>
+ * Each thread reuses one {@value #BUFFER_SIZE}-byte direct buffer for all
+ * calls instead of allocating one per call.
+ */
+public final class CustomListSerializer {
+
+    private static final int MAGIC = 0x434C5342; // "CLSB"
+
+    private static final byte VERSION = 1;
+
+    static final byte KIND_OBJECT = 0;
+    static final byte KIND_INT = 1;
+    static final byte KIND_LONG = 2;
+    static final byte KIND_DOUBLE = 3;
+
+    private static final int HEADER_BYTES = Integer.BYTES + 2 + Integer.BYTES;
+
+    /**
+     * Size of the direct buffer used for channel I/O.
+     */
+    static final int BUFFER_SIZE = 1 << 16;
+
+    /**
+     * Maximum length of an unsigned varint holding an {@code int}.
+     */
+    private static final int MAX_VARINT_BYTES = 5;
+
+    /**
+     * The direct buffer of each thread, or {@code null} while a call on that
+     * thread has taken it, so that a codec can nest calls.
+     */
+    private static final ThreadLocal<ByteBuffer> BUFFERS = new ThreadLocal<>();
+
+    private CustomListSerializer() {
+    }
+
+    private static ByteBuffer newBuffer(int capacity) {
+        return ByteBuffer.allocateDirect(capacity).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * Takes the buffer of the current thread, cleared, or allocates one if
+     * it is already taken. Hand it back with {@link #release}.
+     */
+    private static ByteBuffer acquire() {
+        ByteBuffer buffer = BUFFERS.get();
+        if (buffer == null)
+            return newBuffer(BUFFER_SIZE);
+        BUFFERS.set(null);
+        return buffer.clear();
+    }
+
+    private static void release(ByteBuffer buffer) {
+        BUFFERS.set(buffer);
+    }
+
+    /**
+     * Returns the length to grow a partially read array of {@code length}
+     * elements to so that it holds at least {@code min}, at most
+     * {@code count}.
+     */
+    private static int grownLength(int length, int min, int count) {
+        return Math.min(count, CustomList.newLength(length, min));
+    }
+
+    // Writing
+
+    /**
+     * Writes the list to the channel, encoding each element with the codec.
+     *
+     * @throws IOException if writing to the channel fails
+     */
+    public static <S> void write(CustomList<? extends S> list, ElementCodec<? super S> codec,
+                                 WritableByteChannel channel) throws IOException {
+        final Object[] es = list.elementData;
+        final int size = list.size();
+        final ByteBuffer shared = acquire();
+        try {
+            writeObjects(es, size, codec, shared, channel);
+        } finally {
+            release(shared);
+        }
+    }
+
+    private static <S> void writeObjects(Object[] es, int size, ElementCodec<? super S> codec,
+                                         ByteBuffer buffer, WritableByteChannel channel) throws IOException {
+        writeHeader(buffer, KIND_OBJECT, size);
+        for (int i = 0; i < size; i++) {
+            S e = CustomList.elementAt(es, i);
+            if (e == null) {
+                if (buffer.remaining() < 1)
+                    flush(buffer, channel);
+                buffer.put((byte) 0);
+                continue;
+            }
+            int length = codec.encodedSize(e);
+            if (buffer.remaining() < MAX_VARINT_BYTES + length) {
+                flush(buffer, channel);
+                if (buffer.capacity() < MAX_VARINT_BYTES + length)
+                    buffer = newBuffer(MAX_VARINT_BYTES + length);
+            }
+            putVarint(buffer, length + 1);
+            int start = buffer.position();
+            codec.encode(e, buffer);
+            if (buffer.position() - start != length)
+                throw new IllegalStateException("Codec wrote " + (buffer.position() - start)
+                        + " bytes, announced " + length);
+        }
+        flush(buffer, channel);
+    }
+
+    /**
+     * Writes the values of the list to the channel as one raw block.
+     *
+     * @throws IOException if writing to the channel fails
+     */
+    public static void writeInts(IntCustomList list, WritableByteChannel channel) throws IOException {
+        final int[] es = list.elementData;
+        final int size = list.size();
+        final ByteBuffer buffer = acquire();
+        try {
+            writeHeader(buffer, KIND_INT, size);
+            for (int i = 0; i < size; ) {
+                int n = Math.min(size - i, buffer.remaining() / Integer.BYTES);
+                buffer.asIntBuffer().put(es, i, n);
+                buffer.position(buffer.position() + n * Integer.BYTES);
+                i += n;
+                flush(buffer, channel);
+            }
+            flush(buffer, channel);
+        } finally {
+            release(buffer);
+        }
+    }
+
+    /**
+     * Writes the values of the list to the channel as one raw block.
+     *
+     * @throws IOException if writing to the channel fails
+     */
+    public static void writeLongs(LongCustomList list, WritableByteChannel channel) throws IOException {
+        final long[] es = list.elementData;
+        final int size = list.size();
+        final ByteBuffer buffer = acquire();
+        try {
+            writeHeader(buffer, KIND_LONG, size);
+            for (int i = 0; i < size; ) {
+                int n = Math.min(size - i, buffer.remaining() / Long.BYTES);
+                buffer.asLongBuffer().put(es, i, n);
+                buffer.position(buffer.position() + n * Long.BYTES);
+                i += n;
+                flush(buffer, channel);
+            }
+            flush(buffer, channel);
+        } finally {
+            release(buffer);
+        }
+    }
+
+    /**
+     * Writes the values of the list to the channel as one raw block.
+     *
+     * @throws IOException if writing to the channel fails
+     */
+    public static void writeDoubles(DoubleCustomList list, WritableByteChannel channel) throws IOException {
+        final double[] es = list.elementData;
+        final int size = list.size();
+        final ByteBuffer buffer = acquire();
+        try {
+            writeHeader(buffer, KIND_DOUBLE, size);
+            for (int i = 0; i < size; ) {
+                int n = Math.min(size - i, buffer.remaining() / Double.BYTES);
+                buffer.asDoubleBuffer().put(es, i, n);
+                buffer.position(buffer.position() + n * Double.BYTES);
+                i += n;
+                flush(buffer, channel);
+            }
+            flush(buffer, channel);
+        } finally {
+            release(buffer);
+        }
+    }
+
+    private static void writeHeader(ByteBuffer buffer, byte kind, int count) {
+        buffer.putInt(MAGIC).put(VERSION).put(kind).putInt(count);
+    }
+
+    private static void flush(ByteBuffer buffer, WritableByteChannel channel) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining())
+            channel.write(buffer);
+        buffer.clear();
+    }
+
+    private static void putVarint(ByteBuffer buffer, int value) {
+        while ((value & ~0x7F) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    // Reading
+
+    /**
+     * Reads a list written by {@link #write}, decoding each element with
+     * the codec.
+     *
+     * @throws IOException if reading from the channel fails or the stream
+     *                     does not hold an object list
+     */
+    public static <S> CustomList<S> read(ReadableByteChannel channel, ElementCodec<? extends S> codec)
+            throws IOException {
+        final ByteBuffer shared = acquire();
+        try {
+            Reader in = new Reader(channel, shared);
+            int count = in.header(KIND_OBJECT);
+            // every element takes at least its one-byte frame
+            Object[] es = new Object[in.initialLength(count, 1)];
+            for (int i = 0; i < count; i++) {
+                int frame = in.frame();
+                if (i == es.length)
+                    es = Arrays.copyOf(es, grownLength(es.length, i + 1, count));
+                if (frame == 0)
+                    continue; // null element
+                int length = frame - 1;
+                ByteBuffer buffer = in.require(length);
+                int start = buffer.position();
+                es[i] = codec.decode(buffer, length);
+                buffer.position(start + length);
+            }
+            return new CustomList<>(es, count);
+        } finally {
+            release(shared);
+        }
+    }
+
+    /**
+     * Reads a list written by {@link #writeInts}.
+     *
+     * @throws IOException if reading from the channel fails or the stream
+     *                     does not hold an int list
+     */
+    public static IntCustomList readInts(ReadableByteChannel channel) throws IOException {
+        final ByteBuffer shared = acquire();
+        try {
+            Reader in = new Reader(channel, shared);
+            int count = in.header(KIND_INT);
+            int[] es = new int[in.initialLength(count, Integer.BYTES)];
+            for (int i = 0; i < count; ) {
+                ByteBuffer buffer = in.require(Integer.BYTES);
+                int n = Math.min(count - i, buffer.remaining() / Integer.BYTES);
+                if (i + n > es.length)
+                    es = Arrays.copyOf(es, grownLength(es.length, i + n, count));
+                buffer.asIntBuffer().get(es, i, n);
+                buffer.position(buffer.position() + n * Integer.BYTES);
+                i += n;
+            }
+            return new IntCustomList(es, count);
+        } finally {
+            release(shared);
+        }
+    }
+
+    /**
+     * Reads a list written by {@link #writeLongs}.
+     *
+     * @throws IOException if reading from the channel fails or the stream
+     *                     does not hold a long list
+     */
+    public static LongCustomList readLongs(ReadableByteChannel channel) throws IOException {
+        final ByteBuffer shared = acquire();
+        try {
+            Reader in = new Reader(channel, shared);
+            int count = in.header(KIND_LONG);
+            long[] es = new long[in.initialLength(count, Long.BYTES)];
+            for (int i = 0; i < count; ) {
+                ByteBuffer buffer = in.require(Long.BYTES);
+                int n = Math.min(count - i, buffer.remaining() / Long.BYTES);
+                if (i + n > es.length)
+                    es = Arrays.copyOf(es, grownLength(es.length, i + n, count));
+                buffer.asLongBuffer().get(es, i, n);
+                buffer.position(buffer.position() + n * Long.BYTES);
+                i += n;
+            }
+            return new LongCustomList(es, count);
+        } finally {
+            release(shared);
+        }
+    }
+
+    /**
+     * Reads a list written by {@link #writeDoubles}.
+     *
+     * @throws IOException if reading from the channel fails or the stream
+     *                     does not hold a double list
+     */
+    public static DoubleCustomList readDoubles(ReadableByteChannel channel) throws IOException {
+        final ByteBuffer shared = acquire();
+        try {
+            Reader in = new Reader(channel, shared);
+            int count = in.header(KIND_DOUBLE);
+            double[] es = new double[in.initialLength(count, Double.BYTES)];
+            for (int i = 0; i < count; ) {
+                ByteBuffer buffer = in.require(Double.BYTES);
+                int n = Math.min(count - i, buffer.remaining() / Double.BYTES);
+                if (i + n > es.length)
+                    es = Arrays.copyOf(es, grownLength(es.length, i + n, count));
+                buffer.asDoubleBuffer().get(es, i, n);
+                buffer.position(buffer.position() + n * Double.BYTES);
+                i += n;
+            }
+            return new DoubleCustomList(es, count);
+        } finally {
+            release(shared);
+        }
+    }
+
+    /**
+     * Buffers a channel; the buffer is kept in read mode between calls.
+     */
+    private static final class Reader {
+        private final ReadableByteChannel channel;
+        private ByteBuffer buffer;
+
+        Reader(ReadableByteChannel channel, ByteBuffer buffer) {
+            this.channel = channel;
+            this.buffer = buffer.flip();
+        }
+
+        /**
+         * Returns the length of the array to read {@code count} elements of
+         * at least {@code minBytes} each into: the count itself if the
+         * channel can tell that enough input remains, otherwise no more
+         * than one buffer of input can hold.
+         *
+         * @throws EOFException if the remaining input cannot hold
+         *                      {@code count} elements
+         */
+        int initialLength(int count, int minBytes) throws IOException {
+            if (channel instanceof SeekableByteChannel seekable) {
+                long available = buffer.remaining() + seekable.size() - seekable.position();
+                if ((long) count * minBytes > available)
+                    throw new EOFException("Element count " + count + " exceeds the remaining "
+                            + available + " bytes of the CustomList stream");
+                return count;
+            }
+            return Math.min(count, Math.max(buffer.capacity(), BUFFER_SIZE) / minBytes);
+        }
+
+        /**
+         * Returns the buffer with at least {@code n} bytes remaining,
+         * refilling (and if necessary enlarging) it from the channel.
+         */
+        ByteBuffer require(int n) throws IOException {
+            if (buffer.remaining() >= n)
+                return buffer;
+            buffer.compact();
+            while (buffer.position() < n) {
+                if (!buffer.hasRemaining()) {
+                    // enlarge only as far as the data actually arrives, so
+                    // a corrupt length cannot force a huge allocation
+                    ByteBuffer larger = newBuffer((int) Math.min(n, 2L * buffer.capacity()));
+                    larger.put(buffer.flip());
+                    buffer = larger;
+                }
+                if (channel.read(buffer) < 0)
+                    throw new EOFException("Unexpected end of CustomList stream");
+            }
+            return buffer.flip();
+        }
+
+        /**
+         * Reads the frame of an object element: {@code 0} for {@code null},
+         * otherwise the encoded length plus one.
+         *
+         * @throws IOException if the frame is negative or, on a seekable
+         *                     channel, announces more bytes than remain
+         */
+        int frame() throws IOException {
+            int frame = varint();
+            if (frame < 0)
+                throw new IOException("Malformed frame length " + frame);
+            if (frame > 1 && channel instanceof SeekableByteChannel seekable) {
+                long available = buffer.remaining() + seekable.size() - seekable.position();
+                if (frame - 1 > available)
+                    throw new IOException("Malformed frame length " + (frame - 1)
+                            + " exceeds the remaining " + available + " bytes");
+            }
+            return frame;
+        }
+
+        int header(byte expectedKind) throws IOException {
+            ByteBuffer b = require(HEADER_BYTES);
+            if (b.getInt() != MAGIC)
+                throw new IOException("Not a CustomList stream");
+            byte version = b.get();
+            if (version != VERSION)
+                throw new IOException("Unsupported CustomList stream version " + version);
+            byte kind = b.get();
+            if (kind != expectedKind)
+                throw new IOException("Expected payload kind " + expectedKind + ", found " + kind);
+            int count = b.getInt();
+            if (count < 0 || count > CustomList.SOFT_MAX_ARRAY_LENGTH)
+                throw new IOException("Illegal element count " + count);
+            return count;
+        }
+
+        int varint() throws IOException {
+            int value = 0;
+            for (int shift = 0; shift < 32; shift += 7) {
+                byte b = require(1).get();
+                if (shift == 28 && (b & 0x70) != 0)
+                    break; // more than 32 bits
+                value |= (b & 0x7F) << shift;
+                if (b >= 0)
+                    return value;
+            }
+            throw new IOException("Malformed varint");
+        }
+    }
+}
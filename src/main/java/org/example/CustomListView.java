@@ -0,0 +1,420 @@
+package org.example;
+
+import java.util.*;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * A lazy, read-only view that transforms the elements of a
+ * {@link CustomList}, created with {@link CustomList#mapView},
+ * {@link CustomList#filterView}, {@link CustomList#zipView} and
+ * {@link CustomList#concatView} and chained with the same methods on the
+ * view. Views hold no elements of their own: they always reflect the
+ * current contents of their sources and compute every element when it is
+ * read.
+ * <p>
+ * Mapped, zipped and concatenated views of random-access sources compute
+ * {@link #get(int)} in O(1) and know their size without a pass. A filtered
+ * view, and any view on top of one, has to scan its source for
+ * {@code get(int)} and {@link #size()}, so it is best consumed with
+ * {@link #forEach}, {@link #iterator()} or {@link #materialize()}.
+ * <p>
+ * {@link #forEach} and {@link #materialize()} evaluate a whole chain in a
+ * single fused pass: the root loops over the {@code elementData} of its
+ * {@link CustomList} and pushes every element through the stages, so no
+ * intermediate list is built however many map and filter steps are chained.
+ * {@code materialize()} writes the results into one array presized to the
+ * largest possible result size and trims it if filters left much of it
+ * unused.
+ *
+ * @param <S> the type of elements in this view
+ */
+public abstract class CustomListView<S> extends AbstractList<S> {
+
+    CustomListView() {
+    }
+
+    static <S> CustomListView<S> of(CustomList<S> list) {
+        return new Root<>(Objects.requireNonNull(list));
+    }
+
+    /**
+     * Pushes every element of this view, in order, into the action. This is
+     * the fused evaluation that the stages build on.
+     */
+    abstract void push(Consumer<? super S> action);
+
+    /**
+     * Returns an upper bound of the size of this view, computed without a
+     * pass over the elements.
+     */
+    abstract int sizeBound();
+
+    /**
+     * Returns a view of the results of applying the function to the elements
+     * of this view.
+     */
+    public <R> CustomListView<R> mapView(Function<? super S, ? extends R> mapper) {
+        return new Mapped<>(this, Objects.requireNonNull(mapper));
+    }
+
+    /**
+     * Returns a view of the elements of this view that match the predicate.
+     */
+    public CustomListView<S> filterView(Predicate<? super S> filter) {
+        return new Filtered<>(this, Objects.requireNonNull(filter));
+    }
+
+    /**
+     * Returns a view of the results of applying the function to the
+     * elements of this view and the elements at the same positions of
+     * {@code other}. The view is as long as the shorter of the two.
+     */
+    public <U, R> CustomListView<R> zipView(List<? extends U> other,
+                                            BiFunction<? super S, ? super U, ? extends R> zipper) {
+        return new Zipped<>(this, Objects.requireNonNull(other), Objects.requireNonNull(zipper));
+    }
+
+    /**
+     * Returns a view of the elements of this view followed by the elements of
+     * {@code other}.
+     */
+    public CustomListView<S> concatView(List<? extends S> other) {
+        return new Concatenated<>(this, Objects.requireNonNull(other));
+    }
+
+    /**
+     * Evaluates this view in a single fused pass into a new
+     * {@link CustomList}. The results are written into one array with room
+     * for the largest possible number of results; if filters left more than
+     * a quarter of it unused, the result gets an exactly sized copy instead.
+     */
+    public CustomList<S> materialize() {
+        Sink sink = new Sink(sizeBound());
+        push(sink);
+        Object[] a = sink.a;
+        int n = sink.n;
+        return new CustomList<>(n < a.length - (a.length >>> 2) ? Arrays.copyOf(a, n) : a, n);
+    }
+
+    @Override
+    public void forEach(Consumer<? super S> action) {
+        push(Objects.requireNonNull(action));
+    }
+
+    @Override
+    public Object[] toArray() {
+        Sink sink = new Sink(sizeBound());
+        push(sink);
+        return sink.n == sink.a.length ? sink.a : Arrays.copyOf(sink.a, sink.n);
+    }
+
+    private static final class Sink implements Consumer<Object> {
+        Object[] a;
+        int n;
+
+        Sink(int length) {
+            this.a = new Object[length];
+        }
+
+        @Override
+        public void accept(Object o) {
+            if (n == a.length) // a source outside the chain grew during the pass
+                a = Arrays.copyOf(a, CustomList.newLength(n, n + 1));
+            a[n++] = o;
+        }
+    }
+
+    private static int sizeBoundOf(List<?> list) {
+        return list instanceof CustomListView ? ((CustomListView<?>) list).sizeBound() : list.size();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <S> void pushAll(List<? extends S> list, Consumer<? super S> action) {
+        if (list instanceof CustomListView)
+            ((CustomListView<S>) list).push(action);
+        else
+            list.forEach(action);
+    }
+
+    /**
+     * The view of a {@link CustomList} itself, which starts every chain.
+     */
+    private static final class Root<S> extends CustomListView<S> {
+        private final CustomList<S> list;
+
+        Root(CustomList<S> list) {
+            this.list = list;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        void push(Consumer<? super S> action) {
+            final Object[] es = list.elementData;
+            for (int i = 0, n = list.size(); i < n; i++)
+                action.accept((S) es[i]);
+        }
+
+        @Override
+        int sizeBound() {
+            return list.size();
+        }
+
+        @Override
+        public S get(int index) {
+            return list.get(index);
+        }
+
+        @Override
+        public int size() {
+            return list.size();
+        }
+
+        @Override
+        public Iterator<S> iterator() {
+            return list.iterator();
+        }
+    }
+
+    private static final class Mapped<T, S> extends CustomListView<S> {
+        private final CustomListView<T> source;
+        private final Function<? super T, ? extends S> mapper;
+
+        Mapped(CustomListView<T> source, Function<? super T, ? extends S> mapper) {
+            this.source = source;
+            this.mapper = mapper;
+        }
+
+        @Override
+        void push(Consumer<? super S> action) {
+            final Function<? super T, ? extends S> mapper = this.mapper;
+            source.push(e -> action.accept(mapper.apply(e)));
+        }
+
+        @Override
+        int sizeBound() {
+            return source.sizeBound();
+        }
+
+        @Override
+        public S get(int index) {
+            return mapper.apply(source.get(index));
+        }
+
+        @Override
+        public int size() {
+            return source.size();
+        }
+
+        @Override
+        public Iterator<S> iterator() {
+            Iterator<T> it = source.iterator();
+            return new Iterator<>() {
+                @Override
+                public boolean hasNext() {
+                    return it.hasNext();
+                }
+
+                @Override
+                public S next() {
+                    return mapper.apply(it.next());
+                }
+            };
+        }
+    }
+
+    private static final class Filtered<S> extends CustomListView<S> {
+        private final CustomListView<S> source;
+        private final Predicate<? super S> filter;
+
+        Filtered(CustomListView<S> source, Predicate<? super S> filter) {
+            this.source = source;
+            this.filter = filter;
+        }
+
+        @Override
+        void push(Consumer<? super S> action) {
+            final Predicate<? super S> filter = this.filter;
+            source.push(e -> {
+                if (filter.test(e))
+                    action.accept(e);
+            });
+        }
+
+        @Override
+        int sizeBound() {
+            return source.sizeBound();
+        }
+
+        /**
+         * Returns the element at the specified position, found by scanning
+         * the source.
+         */
+        @Override
+        public S get(int index) {
+            if (index >= 0) {
+                Iterator<S> it = iterator();
+                for (int i = 0; it.hasNext(); i++) {
+                    S e = it.next();
+                    if (i == index)
+                        return e;
+                }
+            }
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+
+        /**
+         * Returns the number of matching elements, counted in one pass over
+         * the source.
+         */
+        @Override
+        public int size() {
+            int[] n = {0};
+            push(e -> n[0]++);
+            return n[0];
+        }
+
+        @Override
+        public Iterator<S> iterator() {
+            Iterator<S> it = source.iterator();
+            return new Iterator<>() {
+                S next;
+                boolean ready;
+
+                @Override
+                public boolean hasNext() {
+                    while (!ready && it.hasNext()) {
+                        S e = it.next();
+                        if (filter.test(e)) {
+                            next = e;
+                            ready = true;
+                        }
+                    }
+                    return ready;
+                }
+
+                @Override
+                public S next() {
+                    if (!hasNext())
+                        throw new NoSuchElementException();
+                    ready = false;
+                    S e = next;
+                    next = null;
+                    return e;
+                }
+            };
+        }
+    }
+
+    private static final class Zipped<T, U, S> extends CustomListView<S> {
+        private final CustomListView<T> source;
+        private final List<? extends U> other;
+        private final BiFunction<? super T, ? super U, ? extends S> zipper;
+
+        Zipped(CustomListView<T> source, List<? extends U> other,
+               BiFunction<? super T, ? super U, ? extends S> zipper) {
+            this.source = source;
+            this.other = other;
+            this.zipper = zipper;
+        }
+
+        @Override
+        void push(Consumer<? super S> action) {
+            final BiFunction<? super T, ? super U, ? extends S> zipper = this.zipper;
+            Iterator<? extends U> it = other.iterator();
+            source.push(e -> {
+                if (it.hasNext())
+                    action.accept(zipper.apply(e, it.next()));
+            });
+        }
+
+        @Override
+        int sizeBound() {
+            return Math.min(source.sizeBound(), sizeBoundOf(other));
+        }
+
+        @Override
+        public S get(int index) {
+            Objects.checkIndex(index, size());
+            return zipper.apply(source.get(index), other.get(index));
+        }
+
+        @Override
+        public int size() {
+            return Math.min(source.size(), other.size());
+        }
+
+        @Override
+        public Iterator<S> iterator() {
+            Iterator<T> left = source.iterator();
+            Iterator<? extends U> right = other.iterator();
+            return new Iterator<>() {
+                @Override
+                public boolean hasNext() {
+                    return left.hasNext() && right.hasNext();
+                }
+
+                @Override
+                public S next() {
+                    if (!hasNext())
+                        throw new NoSuchElementException();
+                    return zipper.apply(left.next(), right.next());
+                }
+            };
+        }
+    }
+
+    private static final class Concatenated<S> extends CustomListView<S> {
+        private final CustomListView<S> source;
+        private final List<? extends S> other;
+
+        Concatenated(CustomListView<S> source, List<? extends S> other) {
+            this.source = source;
+            this.other = other;
+        }
+
+        @Override
+        void push(Consumer<? super S> action) {
+            source.push(action);
+            pushAll(other, action);
+        }
+
+        @Override
+        int sizeBound() {
+            long bound = (long) source.sizeBound() + sizeBoundOf(other);
+            if (bound > CustomList.SOFT_MAX_ARRAY_LENGTH)
+                throw new OutOfMemoryError("Required array length " + bound + " is too large");
+            return (int) bound;
+        }
+
+        @Override
+        public S get(int index) {
+            int n = source.size();
+            return index < n ? source.get(index) : other.get(index - n);
+        }
+
+        @Override
+        public int size() {
+            return source.size() + other.size();
+        }
+
+        @Override
+        public Iterator<S> iterator() {
+            Iterator<S> first = source.iterator();
+            Iterator<? extends S> second = other.iterator();
+            return new Iterator<>() {
+                @Override
+                public boolean hasNext() {
+                    return first.hasNext() || second.hasNext();
+                }
+
+                @Override
+                public S next() {
+                    return first.hasNext() ? first.next() : second.next();
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,419 @@
+package org.example;
+
+import java.util.*;
+
+/**
+ * A resizable list of primitive {@code double} values. This is the primitive
+ * sibling of {@link CustomList}: it keeps its elements in a {@code double[]}
+ * instead of an {@code Object[]}, so no element is ever boxed and the list
+ * costs eight bytes per element instead of a reference plus an
+ * {@code Double} object.
+ * <p>
+ * The backing array grows with the same policy as {@code CustomList.grow(int)}.
+ * Use {@link #boxed()} when a {@code List<Double>} is required for interop.
+ */
+public class DoubleCustomList {
+
+    /**
+     * Default initial capacity.
+     */
+    private static final int DEFAULT_CAPACITY = 10;
+
+    /**
+     * Shared empty array instance used for empty instances.
+     */
+    private static final double[] EMPTY_ELEMENTDATA = {};
+
+    /**
+     * Shared empty array instance used for default sized empty instances. We
+     * distinguish this from EMPTY_ELEMENTDATA to know how much to inflate when
+     * first element is added.
+     */
+    private static final double[] DEFAULTCAPACITY_EMPTY_ELEMENTDATA = {};
+
+    /**
+     * The array buffer into which the elements of the list are stored.
+     * The capacity of the list is the length of this array buffer.
+     */
+    transient double[] elementData; // non-private to simplify nested class access
+
+    /**
+     * The size of the list (the number of elements it contains).
+     */
+    private int size;
+
+    /**
+     * Constructs an empty list with the specified initial capacity.
+     *
+     * @param initialCapacity the initial capacity of the list
+     * @throws IllegalArgumentException if the specified initial capacity
+     *                                  is negative
+     */
+    public DoubleCustomList(int initialCapacity) {
+        if (initialCapacity > 0) {
+            this.elementData = new double[initialCapacity];
+        } else if (initialCapacity == 0) {
+            this.elementData = EMPTY_ELEMENTDATA;
+        } else {
+            throw new IllegalArgumentException("Illegal Capacity: " +
+                    initialCapacity);
+        }
+    }
+
+    /**
+     * Constructs an empty list with an initial capacity of ten.
+     */
+    public DoubleCustomList() {
+        this.elementData = DEFAULTCAPACITY_EMPTY_ELEMENTDATA;
+    }
+
+    /**
+     * Constructs a list that adopts the given array as its elementData,
+     * without copying it.
+     */
+    DoubleCustomList(double[] elementData, int size) {
+        this.elementData = elementData.length == 0 ? EMPTY_ELEMENTDATA : elementData;
+        this.size = size;
+    }
+
+    /**
+     * Returns a list containing a copy of the specified values.
+     */
+    public static DoubleCustomList of(double... values) {
+        DoubleCustomList list = new DoubleCustomList(values.length);
+        list.addAll(values);
+        return list;
+    }
+
+    private String outOfBoundsMsg(int index) {
+        return "Index: " + index + ", Size: " + size;
+    }
+
+    private void rangeCheckForAdd(int index) {
+        if (index > size || index < 0)
+            throw new IndexOutOfBoundsException(outOfBoundsMsg(index));
+    }
+
+    /**
+     * Appends the specified value to the end of this list.
+     */
+    public void add(double value) {
+        final int s;
+        double[] elementData;
+        if ((s = size) == (elementData = this.elementData).length)
+            elementData = grow();
+        elementData[s] = value;
+        size = s + 1;
+    }
+
+    /**
+     * Inserts the specified value at the specified position in this list.
+     * Shifts the value currently at that position (if any) and any subsequent
+     * values to the right.
+     *
+     * @throws IndexOutOfBoundsException if the index is out of range
+     *                                   ({@code index < 0 || index > size()})
+     */
+    public void add(int index, double value) {
+        rangeCheckForAdd(index);
+        final int s;
+        double[] elementData;
+        if ((s = size) == (elementData = this.elementData).length)
+            elementData = grow();
+        System.arraycopy(elementData, index,
+                elementData, index + 1,
+                s - index);
+        elementData[index] = value;
+        size = s + 1;
+    }
+
+    /**
+     * Appends all of the specified values to the end of this list.
+     */
+    public void addAll(double... values) {
+        int numNew = values.length;
+        if (numNew == 0)
+            return;
+        double[] elementData;
+        final int s;
+        if (numNew > (elementData = this.elementData).length - (s = size))
+            elementData = grow(s + numNew);
+        System.arraycopy(values, 0, elementData, s, numNew);
+        size = s + numNew;
+    }
+
+    /**
+     * Returns the value at the specified position in this list.
+     *
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public double get(int index) {
+        Objects.checkIndex(index, size);
+        return elementData[index];
+    }
+
+    /**
+     * Replaces the value at the specified position in this list.
+     *
+     * @return the value previously at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public double set(int index, double value) {
+        Objects.checkIndex(index, size);
+        double oldValue = elementData[index];
+        elementData[index] = value;
+        return oldValue;
+    }
+
+    /**
+     * Removes the value at the specified position in this list and shifts
+     * any subsequent values to the left.
+     *
+     * @return the value that was removed from the list
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public double removeAt(int index) {
+        Objects.checkIndex(index, size);
+        final double[] es = elementData;
+        double oldValue = es[index];
+        final int newSize;
+        if ((newSize = size - 1) > index)
+            System.arraycopy(es, index + 1, es, index, newSize - index);
+        size = newSize;
+        return oldValue;
+    }
+
+    /**
+     * Returns the number of values in this list.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns {@code true} if this list contains no values.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes all of the values from this list. The capacity is retained.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Returns {@code true} if this list contains the specified value.
+     */
+    public boolean contains(double value) {
+        return indexOf(value) >= 0;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified value in
+     * this list, or -1 if this list does not contain the value. Values are
+     * compared the way {@link Double#equals(Object)} does, so {@code NaN}
+     * matches {@code NaN} and {@code 0.0} does not match {@code -0.0}.
+     */
+    public int indexOf(double value) {
+        return indexOfRange(value, 0, size);
+    }
+
+    int indexOfRange(double value, int start, int end) {
+        return PrimitiveKernels.indexOf(elementData, start, end, value);
+    }
+
+    /**
+     * Returns the index of the last occurrence of the specified value in
+     * this list, or -1 if this list does not contain the value.
+     */
+    public int lastIndexOf(double value) {
+        double[] es = elementData;
+        long bits = Double.doubleToLongBits(value);
+        for (int i = size - 1; i >= 0; i--) {
+            if (Double.doubleToLongBits(es[i]) == bits) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the number of occurrences of the specified value in this list,
+     * comparing values like {@link #indexOf(double)}.
+     */
+    public int count(double value) {
+        return PrimitiveKernels.count(elementData, 0, size, value);
+    }
+
+    /**
+     * Returns the sum of the values in this list, or zero if it is empty.
+     */
+    public double sum() {
+        return PrimitiveKernels.sum(elementData, 0, size);
+    }
+
+    /**
+     * Returns the smallest value in this list, as {@link Math#min(double, double)}
+     * would, so any {@code NaN} makes the result {@code NaN}.
+     *
+     * @throws NoSuchElementException if this list is empty
+     */
+    public double min() {
+        if (size == 0)
+            throw new NoSuchElementException();
+        return PrimitiveKernels.min(elementData, 0, size);
+    }
+
+    /**
+     * Returns the largest value in this list, as {@link Math#max(double, double)}
+     * would, so any {@code NaN} makes the result {@code NaN}.
+     *
+     * @throws NoSuchElementException if this list is empty
+     */
+    public double max() {
+        if (size == 0)
+            throw new NoSuchElementException();
+        return PrimitiveKernels.max(elementData, 0, size);
+    }
+
+    /**
+     * Replaces every value in this list with the specified value.
+     */
+    public void fill(double value) {
+        PrimitiveKernels.fill(elementData, 0, size, value);
+    }
+
+    /**
+     * Trims the capacity of this list to be the list's current size.
+     */
+    public void trimToSize() {
+        if (size < elementData.length) {
+            elementData = (size == 0)
+                    ? EMPTY_ELEMENTDATA
+                    : Arrays.copyOf(elementData, size);
+        }
+    }
+
+    /**
+     * Increases the capacity of this list, if necessary, to ensure that it
+     * can hold at least the number of values specified by the minimum
+     * capacity argument.
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > elementData.length
+                && !(elementData == DEFAULTCAPACITY_EMPTY_ELEMENTDATA
+                && minCapacity <= DEFAULT_CAPACITY)) {
+            grow(minCapacity);
+        }
+    }
+
+    private double[] grow(int minCapacity) {
+        int oldCapacity = elementData.length;
+        if (oldCapacity > 0 || elementData != DEFAULTCAPACITY_EMPTY_ELEMENTDATA) {
+            int newCapacity = CustomList.newLength(oldCapacity, minCapacity);
+            return elementData = Arrays.copyOf(elementData, newCapacity);
+        } else {
+            return elementData = new double[Math.max(DEFAULT_CAPACITY, minCapacity)];
+        }
+    }
+
+    private double[] grow() {
+        return grow(size + 1);
+    }
+
+    /**
+     * Returns an array containing all of the values in this list.
+     */
+    public double[] toArray() {
+        return Arrays.copyOf(elementData, size);
+    }
+
+    /**
+     * Returns a {@code List<Double>} view backed by this list. Values are
+     * boxed on every access, so the view is meant for interop with APIs that
+     * require a {@code List}, not for hot loops. Changes to the view write
+     * through to this list.
+     */
+    public List<Double> boxed() {
+        return new BoxedView();
+    }
+
+    private class BoxedView extends AbstractList<Double> implements RandomAccess {
+        @Override
+        public Double get(int index) {
+            return DoubleCustomList.this.get(index);
+        }
+
+        @Override
+        public Double set(int index, Double element) {
+            return DoubleCustomList.this.set(index, element);
+        }
+
+        @Override
+        public void add(int index, Double element) {
+            DoubleCustomList.this.add(index, element);
+        }
+
+        @Override
+        public Double remove(int index) {
+            return removeAt(index);
+        }
+
+        @Override
+        public int indexOf(Object o) {
+            return o instanceof Double ? DoubleCustomList.this.indexOf((Double) o) : -1;
+        }
+
+        @Override
+        public int lastIndexOf(Object o) {
+            return o instanceof Double ? DoubleCustomList.this.lastIndexOf((Double) o) : -1;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public void clear() {
+            DoubleCustomList.this.clear();
+        }
+    }
+
+    public boolean equals(Object o) {
+        if (o == this) {
+            return true;
+        }
+        if (!(o instanceof DoubleCustomList)) {
+            return false;
+        }
+        DoubleCustomList other = (DoubleCustomList) o;
+        return size == other.size && PrimitiveKernels.equals(elementData, other.elementData, size);
+    }
+
+    public int hashCode() {
+        double[] es = elementData;
+        int hashCode = 1;
+        for (int i = 0; i < size; i++) {
+            hashCode = 31 * hashCode + Double.hashCode(es[i]);
+        }
+        return hashCode;
+    }
+
+    public String toString() {
+        if (size == 0)
+            return "[]";
+
+        StringBuilder sb = new StringBuilder();
+        sb.append('[');
+        for (int i = 0; ; i++) {
+            sb.append(elementData[i]);
+            if (i == size - 1)
+                return sb.append(']').toString();
+            sb.append(',').append(' ');
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package org.example;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Encodes elements of a {@link CustomList} for {@link CustomListSerializer}.
+ * <p>
+ * The serializer frames every element with its encoded length, so a codec
+ * only has to write and read the element's own bytes. Elements may have
+ * different encoded sizes; {@code null} elements are handled by the
+ * serializer and never reach the codec.
+ *
+ * @param <S> the type of elements handled by this codec
+ */
+public interface ElementCodec<S> {
+
+    /**
+     * Returns the exact number of bytes {@link #encode} writes for the value.
+     */
+    int encodedSize(S value);
+
+    /**
+     * Writes the value at the buffer's position. The buffer has at least
+     * {@link #encodedSize(Object)} bytes remaining.
+     */
+    void encode(S value, ByteBuffer out);
+
+    /**
+     * Reads a value of {@code length} encoded bytes from the buffer's
+     * position.
+     */
+    S decode(ByteBuffer in, int length);
+
+    /**
+     * Returns a codec that encodes elements with a fixed-width layout.
+     */
+    static <S> ElementCodec<S> of(ElementLayout<S> layout) {
+        return new ElementCodec<>() {
+            @Override
+            public int encodedSize(S value) {
+                return layout.byteSize();
+            }
+
+            @Override
+            public void encode(S value, ByteBuffer out) {
+                int position = out.position();
+                layout.write(out, position, value);
+                out.position(position + layout.byteSize());
+            }
+
+            @Override
+            public S decode(ByteBuffer in, int length) {
+                int position = in.position();
+                S value = layout.read(in, position);
+                in.position(position + length);
+                return value;
+            }
+        };
+    }
+
+    ElementCodec<String> UTF8 = new ElementCodec<>() {
+        @Override
+        public int encodedSize(String value) {
+            int n = 0;
+            for (int i = 0, len = value.length(); i < len; i++) {
+                char c = value.charAt(i);
+                if (c < 0x80) {
+                    n += 1;
+                } else if (c < 0x800) {
+                    n += 2;
+                } else if (Character.isHighSurrogate(c) && i + 1 < len
+                        && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    n += 4;
+                    i++;
+                } else if (Character.isSurrogate(c)) {
+                    n += 1; // unpaired surrogates are encoded as '?'
+                } else {
+                    n += 3;
+                }
+            }
+            return n;
+        }
+
+        @Override
+        public void encode(String value, ByteBuffer out) {
+            out.put(value.getBytes(StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public String decode(ByteBuffer in, int length) {
+            String value;
+            if (in.hasArray()) {
+                value = new String(in.array(), in.arrayOffset() + in.position(), length, StandardCharsets.UTF_8);
+                in.position(in.position() + length);
+            } else {
+                byte[] bytes = new byte[length];
+                in.get(bytes);
+                value = new String(bytes, StandardCharsets.UTF_8);
+            }
+            return value;
+        }
+    };
+}
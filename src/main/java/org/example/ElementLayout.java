@@ -0,0 +1,87 @@
+package org.example;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Describes how an element of a fixed width is laid out in a
+ * {@link ByteBuffer}. Lists that keep their data outside of the Java heap
+ * store every element in exactly {@link #byteSize()} bytes, so the element
+ * at index {@code i} always lives at byte offset {@code i * byteSize()}.
+ * <p>
+ * Layouts for the boxed primitives are provided as constants. Fixed-layout
+ * records can be supported by implementing this interface and reading or
+ * writing each component at its own offset.
+ *
+ * @param <S> the type of elements described by this layout
+ */
+public interface ElementLayout<S> {
+
+    /**
+     * Returns the number of bytes every element occupies.
+     */
+    int byteSize();
+
+    /**
+     * Reads the element stored at the given absolute byte offset.
+     */
+    S read(ByteBuffer buffer, int offset);
+
+    /**
+     * Writes the element at the given absolute byte offset.
+     *
+     * @throws NullPointerException if the layout cannot represent a
+     *                              {@code null} element
+     */
+    void write(ByteBuffer buffer, int offset, S value);
+
+    ElementLayout<Integer> INT = new ElementLayout<>() {
+        @Override
+        public int byteSize() {
+            return Integer.BYTES;
+        }
+
+        @Override
+        public Integer read(ByteBuffer buffer, int offset) {
+            return buffer.getInt(offset);
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, int offset, Integer value) {
+            buffer.putInt(offset, value);
+        }
+    };
+
+    ElementLayout<Long> LONG = new ElementLayout<>() {
+        @Override
+        public int byteSize() {
+            return Long.BYTES;
+        }
+
+        @Override
+        public Long read(ByteBuffer buffer, int offset) {
+            return buffer.getLong(offset);
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, int offset, Long value) {
+            buffer.putLong(offset, value);
+        }
+    };
+
+    ElementLayout<Double> DOUBLE = new ElementLayout<>() {
+        @Override
+        public int byteSize() {
+            return Double.BYTES;
+        }
+
+        @Override
+        public Double read(ByteBuffer buffer, int offset) {
+            return buffer.getDouble(offset);
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, int offset, Double value) {
+            buffer.putDouble(offset, value);
+        }
+    };
+}
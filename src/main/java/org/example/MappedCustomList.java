@@ -0,0 +1,294 @@
+package org.example;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+
+/**
+ * A persistent list of fixed-width elements that lives in a memory-mapped
+ * file. Elements are encoded with an {@link ElementLayout} straight into the
+ * mapped pages, so the data never occupies the Java heap and reopening the
+ * file after a restart only maps it again instead of deserializing it.
+ * <p>
+ * The file starts with a small header holding a magic number, the element
+ * width and the current size, followed by the elements. Because one mapping
+ * cannot exceed {@code Integer.MAX_VALUE} bytes, the data is mapped in
+ * regions of at most 1 GiB. Growth follows the amortized policy of
+ * {@code CustomList.grow(int)}: the last region is remapped with a larger
+ * size, and further regions are mapped once it is full. Elements are
+ * addressed with {@code long} indices, like {@link SegmentedCustomList}.
+ * <p>
+ * Writes land in the OS page cache; call {@link #force()} to make them
+ * durable. The list must be {@linkplain #close() closed} to release the
+ * file. Instances are not thread-safe.
+ *
+ * @param <S> the type of elements in this list
+ */
+public class MappedCustomList<S> extends AbstractList<S> implements RandomAccess, AutoCloseable {
+
+    private static final int MAGIC = 0x434C4D46; // "CLMF"
+
+    private static final int VERSION = 1;
+
+    private static final int MAGIC_OFFSET = 0;
+
+    private static final int VERSION_OFFSET = 4;
+
+    private static final int WIDTH_OFFSET = 8;
+
+    private static final int SIZE_OFFSET = 16;
+
+    /**
+     * Size of the file header; the first element starts at this offset.
+     */
+    static final int HEADER_BYTES = 64;
+
+    /**
+     * Upper bound on the size of a single mapped region.
+     */
+    private static final int MAX_REGION_BYTES = 1 << 30;
+
+    /**
+     * Default initial capacity of a new file.
+     */
+    private static final int DEFAULT_CAPACITY = 1024;
+
+    private final ElementLayout<S> layout;
+
+    private final int width;
+
+    private final int regionShift;
+
+    private final int regionMask;
+
+    private FileChannel channel;
+
+    private final MappedByteBuffer header;
+
+    /**
+     * The mapped data regions. All but the last one hold exactly
+     * {@code 1 << regionShift} elements.
+     */
+    private MappedByteBuffer[] regions;
+
+    /**
+     * The number of elements the mapped regions can hold.
+     */
+    private long capacity;
+
+    /**
+     * The size of the list (the number of elements it contains).
+     */
+    private long size;
+
+    private MappedCustomList(FileChannel channel, ElementLayout<S> layout) throws IOException {
+        this.channel = channel;
+        this.layout = layout;
+        this.width = layout.byteSize();
+        this.regionShift = 31 - Integer.numberOfLeadingZeros(MAX_REGION_BYTES / width);
+        this.regionMask = (1 << regionShift) - 1;
+        boolean created = channel.size() == 0;
+        this.header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_BYTES);
+        header.order(ByteOrder.LITTLE_ENDIAN);
+        this.regions = new MappedByteBuffer[0];
+        if (created) {
+            header.putInt(MAGIC_OFFSET, MAGIC)
+                    .putInt(VERSION_OFFSET, VERSION)
+                    .putInt(WIDTH_OFFSET, width)
+                    .putLong(SIZE_OFFSET, 0L);
+            map(DEFAULT_CAPACITY);
+        } else {
+            if (header.getInt(MAGIC_OFFSET) != MAGIC || header.getInt(VERSION_OFFSET) != VERSION)
+                throw new IOException("Not a CustomList file");
+            if (header.getInt(WIDTH_OFFSET) != width)
+                throw new IOException("Element width mismatch: file has "
+                        + header.getInt(WIDTH_OFFSET) + " bytes, layout has " + width);
+            this.size = header.getLong(SIZE_OFFSET);
+            map(Math.max(size, (channel.size() - HEADER_BYTES) / width));
+        }
+    }
+
+    /**
+     * Opens the list stored in the specified file, creating an empty one if
+     * the file does not exist or is empty.
+     *
+     * @throws IOException if the file cannot be opened or mapped, or does
+     *                     not hold a list of elements of the layout's width
+     */
+    public static <S> MappedCustomList<S> open(Path file, ElementLayout<S> layout) throws IOException {
+        FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            return new MappedCustomList<>(channel, Objects.requireNonNull(layout));
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Maps the data regions so that they hold {@code newCapacity} elements.
+     * Full regions already mapped are kept; the last region is remapped with
+     * its new size and any additional regions are mapped after it.
+     */
+    private void map(long newCapacity) throws IOException {
+        int regionCount = (int) ((newCapacity + regionMask) >>> regionShift);
+        MappedByteBuffer[] newRegions = Arrays.copyOf(regions, regionCount);
+        int firstToMap = Math.max(0, regions.length - 1);
+        if (regions.length > 0 && regionElements(regions.length - 1, capacity) == 1 << regionShift)
+            firstToMap = regions.length; // the last mapped region is already full
+        for (int r = firstToMap; r < regionCount; r++) {
+            long offset = HEADER_BYTES + ((long) r << regionShift) * width;
+            MappedByteBuffer region = channel.map(FileChannel.MapMode.READ_WRITE, offset,
+                    (long) regionElements(r, newCapacity) * width);
+            region.order(ByteOrder.LITTLE_ENDIAN);
+            newRegions[r] = region;
+        }
+        regions = newRegions;
+        capacity = newCapacity;
+    }
+
+    private int regionElements(int region, long capacity) {
+        return (int) Math.min(1L << regionShift, capacity - ((long) region << regionShift));
+    }
+
+    private MappedByteBuffer[] regions() {
+        if (channel == null)
+            throw new IllegalStateException("List is closed");
+        return regions;
+    }
+
+    private String outOfBoundsMsg(long index) {
+        return "Index: " + index + ", Size: " + size;
+    }
+
+    private void checkIndex(long index) {
+        if (index < 0 || index >= size)
+            throw new IndexOutOfBoundsException(outOfBoundsMsg(index));
+    }
+
+    /**
+     * Returns the element at the specified position in this list.
+     *
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public S get(long index) {
+        MappedByteBuffer[] rs = regions();
+        checkIndex(index);
+        return layout.read(rs[(int) (index >>> regionShift)], ((int) index & regionMask) * width);
+    }
+
+    @Override
+    public S get(int index) {
+        MappedByteBuffer[] rs = regions();
+        checkIndex(index);
+        return layout.read(rs[index >>> regionShift], (index & regionMask) * width);
+    }
+
+    /**
+     * Replaces the element at the specified position in this list.
+     *
+     * @return the element previously at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public S set(long index, S element) {
+        MappedByteBuffer[] rs = regions();
+        checkIndex(index);
+        ByteBuffer region = rs[(int) (index >>> regionShift)];
+        int offset = ((int) index & regionMask) * width;
+        S oldValue = layout.read(region, offset);
+        layout.write(region, offset, element);
+        return oldValue;
+    }
+
+    @Override
+    public S set(int index, S element) {
+        return set((long) index, element);
+    }
+
+    @Override
+    public boolean add(S element) {
+        MappedByteBuffer[] rs = regions();
+        final long s = size;
+        if (s == capacity)
+            rs = grow(s + 1);
+        layout.write(rs[(int) (s >>> regionShift)], ((int) s & regionMask) * width, element);
+        header.putLong(SIZE_OFFSET, size = s + 1);
+        modCount++;
+        return true;
+    }
+
+    private MappedByteBuffer[] grow(long minCapacity) {
+        long newCapacity = Math.max(minCapacity, capacity + (capacity >> 1));
+        try {
+            map(newCapacity);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return regions;
+    }
+
+    /**
+     * Removes all of the elements from this list. The file keeps its size so
+     * the space is reused by later additions.
+     */
+    @Override
+    public void clear() {
+        regions();
+        header.putLong(SIZE_OFFSET, size = 0);
+        modCount++;
+    }
+
+    /**
+     * Returns the number of elements in this list as a {@code long}.
+     */
+    public long longSize() {
+        regions();
+        return size;
+    }
+
+    /**
+     * Returns the number of elements in this list, or
+     * {@code Integer.MAX_VALUE} if it holds more elements than that.
+     */
+    @Override
+    public int size() {
+        regions();
+        return (int) Math.min(size, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Forces all changes made to this list to be written to the storage
+     * device holding the file.
+     */
+    public void force() {
+        for (MappedByteBuffer region : regions())
+            region.force();
+        header.force();
+    }
+
+    /**
+     * Closes the underlying file. Changes that were not {@linkplain #force()
+     * forced} are still written back by the operating system. Closing an
+     * already closed list has no effect.
+     *
+     * @throws IOException if closing the file fails
+     */
+    @Override
+    public void close() throws IOException {
+        if (channel != null) {
+            try {
+                channel.close();
+            } finally {
+                channel = null;
+                regions = null;
+            }
+        }
+    }
+}
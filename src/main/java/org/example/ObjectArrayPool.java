@@ -0,0 +1,159 @@
+package org.example;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A pool of {@code Object[]} backing arrays for short-lived
+ * {@link CustomList}s, see {@link CustomList#pooled()}.
+ * <p>
+ * Arrays are bucketed by power-of-two length from 16 to 2<sup>16</sup>
+ * elements; larger arrays are never pooled. Each thread first uses a small
+ * cache of its own for arrays of up to 1024 elements, which needs no
+ * synchronization, and falls back to a shared tier whose slots are claimed
+ * with compare-and-set. Neither tier allocates when it hands out or takes
+ * back an array, so a steady stream of lists that are acquired and released
+ * reuses the same arrays. When a tier is full, released arrays are simply
+ * dropped for the garbage collector.
+ * <p>
+ * The pool never shrinks, so what it may retain is capped: each thread
+ * cache holds at most {@value #LOCAL_SLOTS} arrays per bucket, 4064
+ * references (about 16 KB with compressed references), and the shared
+ * tier holds {@value #SHARED_SLOTS} arrays per bucket up to 4096 elements
+ * and fewer for larger buckets, down to one array of 2<sup>15</sup> and one
+ * of 2<sup>16</sup> elements, 229248 references (under 1 MB) in total.
+ * <p>
+ * Released arrays must be cleared by the caller.
+ */
+final class ObjectArrayPool {
+
+    private static final int MIN_SHIFT = 4;
+
+    private static final int MAX_SHIFT = 16;
+
+    /**
+     * Arrays larger than this are pooled only in the shared tier, so that
+     * idle threads do not each pin large arrays.
+     */
+    private static final int MAX_LOCAL_SHIFT = 10;
+
+    /**
+     * Buckets above this shift get half as many shared slots per doubling
+     * of the length, and at least one.
+     */
+    private static final int FULL_SHARED_SHIFT = 12;
+
+    private static final int BUCKETS = MAX_SHIFT - MIN_SHIFT + 1;
+
+    private static final int LOCAL_SLOTS = 2;
+
+    private static final int SHARED_SLOTS = 8;
+
+    /**
+     * The first shared slot of each bucket; the slots of bucket {@code b}
+     * are {@code SHARED_START[b]} up to {@code SHARED_START[b + 1]}.
+     */
+    private static final int[] SHARED_START = new int[BUCKETS + 1];
+
+    static {
+        for (int b = 0; b < BUCKETS; b++) {
+            int shift = b + MIN_SHIFT;
+            int slots = shift <= FULL_SHARED_SHIFT
+                    ? SHARED_SLOTS
+                    : Math.max(1, SHARED_SLOTS >> (shift - FULL_SHARED_SHIFT));
+            SHARED_START[b + 1] = SHARED_START[b] + slots;
+        }
+    }
+
+    private static final ThreadLocal<Object[][]> LOCAL =
+            ThreadLocal.withInitial(() -> new Object[(MAX_LOCAL_SHIFT - MIN_SHIFT + 1) * LOCAL_SLOTS][]);
+
+    private static final AtomicReferenceArray<Object[]> SHARED =
+            new AtomicReferenceArray<>(SHARED_START[BUCKETS]);
+
+    private ObjectArrayPool() {
+    }
+
+    /**
+     * Returns the pooled length for the capacity, the smallest power of two
+     * that is not smaller than both {@code minCapacity} and 16.
+     */
+    static int pooledLength(int minCapacity) {
+        return 1 << shiftFor(minCapacity);
+    }
+
+    private static int shiftFor(int minCapacity) {
+        if (minCapacity <= 1 << MIN_SHIFT)
+            return MIN_SHIFT;
+        return 32 - Integer.numberOfLeadingZeros(minCapacity - 1);
+    }
+
+    /**
+     * Returns a cleared array of at least {@code minCapacity} elements,
+     * reusing a pooled one if possible. Requests above the largest bucket
+     * get a fresh array of exactly {@code minCapacity} elements.
+     */
+    static Object[] acquire(int minCapacity) {
+        int shift = shiftFor(minCapacity);
+        if (shift > MAX_SHIFT)
+            return new Object[minCapacity];
+        int bucket = shift - MIN_SHIFT;
+        if (shift <= MAX_LOCAL_SHIFT) {
+            // the slots of a bucket form a stack, filled from the bottom, so
+            // the most recently released and cache-warm array is reused first
+            Object[][] local = LOCAL.get();
+            for (int start = bucket * LOCAL_SLOTS, i = start + LOCAL_SLOTS - 1; i >= start; i--) {
+                Object[] a = local[i];
+                if (a != null) {
+                    local[i] = null;
+                    return a;
+                }
+            }
+        }
+        for (int i = SHARED_START[bucket], end = SHARED_START[bucket + 1]; i < end; i++) {
+            Object[] a = SHARED.get(i);
+            if (a != null && SHARED.compareAndSet(i, a, null))
+                return a;
+        }
+        return new Object[1 << shift];
+    }
+
+    /**
+     * Returns a cleared array to the pool. Arrays whose length is not one of
+     * the pooled lengths are ignored.
+     */
+    static void release(Object[] a) {
+        int length = a.length;
+        if (Integer.bitCount(length) != 1 || length < 1 << MIN_SHIFT || length > 1 << MAX_SHIFT)
+            return;
+        int shift = Integer.numberOfTrailingZeros(length);
+        int bucket = shift - MIN_SHIFT;
+        if (shift <= MAX_LOCAL_SHIFT) {
+            Object[][] local = LOCAL.get();
+            for (int i = bucket * LOCAL_SLOTS, end = i + LOCAL_SLOTS; i < end; i++) {
+                if (local[i] == null) {
+                    local[i] = a;
+                    return;
+                }
+            }
+        }
+        for (int i = SHARED_START[bucket], end = SHARED_START[bucket + 1]; i < end; i++) {
+            if (SHARED.get(i) == null && SHARED.compareAndSet(i, null, a))
+                return;
+        }
+    }
+
+    /**
+     * Returns the largest number of array elements the shared tier and the
+     * cache of one thread can retain together.
+     */
+    static long maxRetainedElements() {
+        long elements = 0;
+        for (int b = 0; b < BUCKETS; b++) {
+            int slots = SHARED_START[b + 1] - SHARED_START[b];
+            if (b + MIN_SHIFT <= MAX_LOCAL_SHIFT)
+                slots += LOCAL_SLOTS;
+            elements += (long) slots << (b + MIN_SHIFT);
+        }
+        return elements;
+    }
+}
@@ -0,0 +1,293 @@
+package org.example;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.*;
+
+/**
+ * A list of fixed-width elements whose data lives in a direct
+ * {@link ByteBuffer} instead of an {@code Object[]}. The garbage collector
+ * never scans or copies the element data, only the small list object and
+ * the buffer handle, so large lists do not add to GC pause times.
+ * <p>
+ * Elements are encoded with an {@link ElementLayout}; reading an element
+ * decodes a fresh value from native memory. The buffer grows with the same
+ * amortized policy as {@code CustomList.grow(int)}. A single direct buffer is
+ * limited to {@code Integer.MAX_VALUE} bytes, which bounds the capacity of
+ * one list to {@code Integer.MAX_VALUE / layout.byteSize()} elements.
+ * <p>
+ * The list owns its native memory. Call {@link #close()} when done with it,
+ * after which every operation throws {@link IllegalStateException}. Closing
+ * the list, and replacing the buffer in {@link #ensureCapacity} or
+ * {@link #trimToSize}, frees the old buffer at once through its cleaner
+ * ({@code sun.misc.Unsafe.invokeCleaner} from the {@code jdk.unsupported}
+ * module). Where that method is not available, the memory is only freed
+ * when the garbage collector finds the buffer unreachable. An
+ * {@link ElementLayout} must therefore not keep a reference to the buffer
+ * it is given. Instances are not thread-safe; iterators are fail-fast.
+ *
+ * @param <S> the type of elements in this list
+ */
+public class OffHeapCustomList<S> extends AbstractList<S> implements RandomAccess, AutoCloseable {
+
+    /**
+     * Default initial capacity.
+     */
+    private static final int DEFAULT_CAPACITY = 10;
+
+    /**
+     * {@code sun.misc.Unsafe.invokeCleaner} bound to the unsafe instance, or
+     * {@code null} if it is not accessible.
+     */
+    private static final MethodHandle INVOKE_CLEANER = invokeCleaner();
+
+    private static MethodHandle invokeCleaner() {
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            return MethodHandles.lookup()
+                    .findVirtual(unsafeClass, "invokeCleaner", MethodType.methodType(void.class, ByteBuffer.class))
+                    .bindTo(theUnsafe.get(null));
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Frees the native memory of a buffer this list no longer references.
+     */
+    private static void free(ByteBuffer b) {
+        if (INVOKE_CLEANER == null)
+            return;
+        try {
+            INVOKE_CLEANER.invokeExact(b);
+        } catch (Throwable e) {
+            // leave the buffer to its cleaner
+        }
+    }
+
+    private final ElementLayout<S> layout;
+
+    private final int width;
+
+    /**
+     * The native buffer holding the encoded elements, or {@code null} once
+     * the list has been closed.
+     */
+    private ByteBuffer buffer;
+
+    /**
+     * The number of elements the buffer can hold.
+     */
+    private int capacity;
+
+    /**
+     * The size of the list (the number of elements it contains).
+     */
+    private int size;
+
+    /**
+     * Constructs an empty list with an initial capacity of ten.
+     */
+    public OffHeapCustomList(ElementLayout<S> layout) {
+        this(layout, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty list with the specified initial capacity.
+     *
+     * @throws IllegalArgumentException if the specified initial capacity
+     *                                  is negative or too large for a
+     *                                  single direct buffer
+     */
+    public OffHeapCustomList(ElementLayout<S> layout, int initialCapacity) {
+        this.layout = Objects.requireNonNull(layout);
+        this.width = layout.byteSize();
+        if (initialCapacity < 0 || initialCapacity > maxCapacity()) {
+            throw new IllegalArgumentException("Illegal Capacity: " +
+                    initialCapacity);
+        }
+        this.buffer = allocate(initialCapacity);
+        this.capacity = initialCapacity;
+    }
+
+    private int maxCapacity() {
+        return Integer.MAX_VALUE / width;
+    }
+
+    private ByteBuffer allocate(int capacity) {
+        return ByteBuffer.allocateDirect(capacity * width).order(ByteOrder.nativeOrder());
+    }
+
+    private ByteBuffer buffer() {
+        ByteBuffer b;
+        if ((b = buffer) == null)
+            throw new IllegalStateException("List is closed");
+        return b;
+    }
+
+    private String outOfBoundsMsg(int index) {
+        return "Index: " + index + ", Size: " + size;
+    }
+
+    private void rangeCheckForAdd(int index) {
+        if (index > size || index < 0)
+            throw new IndexOutOfBoundsException(outOfBoundsMsg(index));
+    }
+
+    @Override
+    public S get(int index) {
+        ByteBuffer b = buffer();
+        Objects.checkIndex(index, size);
+        return layout.read(b, index * width);
+    }
+
+    @Override
+    public S set(int index, S element) {
+        ByteBuffer b = buffer();
+        Objects.checkIndex(index, size);
+        S oldValue = layout.read(b, index * width);
+        layout.write(b, index * width, element);
+        return oldValue;
+    }
+
+    @Override
+    public boolean add(S element) {
+        ByteBuffer b = buffer();
+        final int s;
+        if ((s = size) == capacity)
+            b = grow(s + 1);
+        layout.write(b, s * width, element);
+        size = s + 1;
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public void add(int index, S element) {
+        ByteBuffer b = buffer();
+        rangeCheckForAdd(index);
+        final int s;
+        if ((s = size) == capacity)
+            b = grow(s + 1);
+        b.put((index + 1) * width, b, index * width, (s - index) * width);
+        layout.write(b, index * width, element);
+        size = s + 1;
+        modCount++;
+    }
+
+    @Override
+    public S remove(int index) {
+        ByteBuffer b = buffer();
+        Objects.checkIndex(index, size);
+        S oldValue = layout.read(b, index * width);
+        final int newSize;
+        if ((newSize = size - 1) > index)
+            b.put(index * width, b, (index + 1) * width, (newSize - index) * width);
+        size = newSize;
+        modCount++;
+        return oldValue;
+    }
+
+    @Override
+    public int size() {
+        buffer();
+        return size;
+    }
+
+    /**
+     * Removes all of the elements from this list. The native memory is
+     * retained for reuse.
+     */
+    @Override
+    public void clear() {
+        buffer();
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Increases the capacity of this list, if necessary, to ensure that it
+     * can hold at least the number of elements specified by the minimum
+     * capacity argument.
+     */
+    public void ensureCapacity(int minCapacity) {
+        buffer();
+        if (minCapacity > capacity)
+            grow(minCapacity);
+    }
+
+    /**
+     * Trims the native buffer of this list to be the list's current size.
+     * The old buffer is freed.
+     */
+    public void trimToSize() {
+        ByteBuffer b = buffer();
+        if (size < capacity) {
+            ByteBuffer newBuffer = allocate(size);
+            newBuffer.put(0, b, 0, size * width);
+            buffer = newBuffer;
+            capacity = size;
+            free(b);
+        }
+    }
+
+    /**
+     * Returns the number of bytes of native memory held by this list.
+     */
+    public long nativeBytes() {
+        return (long) buffer().capacity();
+    }
+
+    private ByteBuffer grow(int minCapacity) {
+        int max = maxCapacity();
+        if (minCapacity < 0 || minCapacity > max)
+            throw new OutOfMemoryError("Required capacity " + minCapacity
+                    + " exceeds the direct buffer limit of " + max + " elements");
+        int newCapacity = Math.min(
+                CustomList.newLength(capacity, Math.max(minCapacity, DEFAULT_CAPACITY)), max);
+        ByteBuffer oldBuffer = buffer;
+        ByteBuffer newBuffer = allocate(newCapacity);
+        newBuffer.put(0, oldBuffer, 0, size * width);
+        capacity = newCapacity;
+        buffer = newBuffer;
+        free(oldBuffer);
+        return newBuffer;
+    }
+
+    /**
+     * Frees the native buffer of this list. Closing an already closed
+     * list has no effect.
+     */
+    @Override
+    public void close() {
+        ByteBuffer b;
+        if ((b = buffer) == null)
+            return;
+        buffer = null;
+        capacity = 0;
+        size = 0;
+        modCount++;
+        free(b);
+    }
+
+    /**
+     * Returns {@code true} if buffers are freed when they are replaced or the
+     * list is closed, rather than when they become unreachable.
+     */
+    static boolean freesEagerly() {
+        return INVOKE_CLEANER != null;
+    }
+
+    /**
+     * Returns {@code true} if this list has been closed.
+     */
+    public boolean isClosed() {
+        return buffer == null;
+    }
+}
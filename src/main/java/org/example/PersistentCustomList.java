@@ -0,0 +1,379 @@
+package org.example;
+
+import java.util.*;
+
+/**
+ * An immutable, persistent list that shares structure between versions.
+ * <p>
+ * Elements are stored in a 32-way radix tree whose leaves hold 32 elements
+ * each, plus a tail array of up to 32 elements that is not yet part of the
+ * tree. {@link #get} walks at most {@code log32(n)} levels, and
+ * {@link #with(int, Object)} and {@link #plus(Object)} return a new version
+ * that copies only the O(log32 n) nodes on the path to the changed element
+ * while sharing everything else with this version. Old versions stay valid
+ * and unchanged, which makes them cheap point-in-time snapshots for readers.
+ * <p>
+ * For batch construction use a {@link Builder}, obtained from
+ * {@link #builder()}, {@link #toBuilder()} or
+ * {@link CustomList#toPersistent()}. A builder mutates the nodes it owns in
+ * place and {@link Builder#snapshot()} hands out a persistent version in
+ * O(1), after which the builder path-copies again before touching shared
+ * nodes.
+ * <p>
+ * The {@link List} mutators of this class throw
+ * {@link UnsupportedOperationException}.
+ *
+ * @param <S> the type of elements in this list
+ */
+public final class PersistentCustomList<S> extends AbstractList<S> implements RandomAccess {
+
+    private static final int SHIFT = 5;
+
+    private static final int WIDTH = 1 << SHIFT;
+
+    private static final int MASK = WIDTH - 1;
+
+    /**
+     * A tree node. {@code edit} identifies the builder that may mutate the
+     * node in place; nodes of persistent versions are never mutated.
+     */
+    static final class Node {
+        final Object edit;
+        final Object[] array;
+
+        Node(Object edit, Object[] array) {
+            this.edit = edit;
+            this.array = array;
+        }
+
+        Node(Object edit) {
+            this(edit, new Object[WIDTH]);
+        }
+    }
+
+    private static final Node EMPTY_NODE = new Node(null);
+
+    private static final Object[] EMPTY_TAIL = {};
+
+    private static final PersistentCustomList<?> EMPTY =
+            new PersistentCustomList<>(0, SHIFT, EMPTY_NODE, EMPTY_TAIL);
+
+    private final int size;
+
+    private final int shift;
+
+    private final Node root;
+
+    private final Object[] tail;
+
+    private PersistentCustomList(int size, int shift, Node root, Object[] tail) {
+        this.size = size;
+        this.shift = shift;
+        this.root = root;
+        this.tail = tail;
+    }
+
+    /**
+     * Returns the empty persistent list.
+     */
+    @SuppressWarnings("unchecked")
+    public static <S> PersistentCustomList<S> empty() {
+        return (PersistentCustomList<S>) EMPTY;
+    }
+
+    /**
+     * Returns a new builder starting from the empty list.
+     */
+    public static <S> Builder<S> builder() {
+        return PersistentCustomList.<S>empty().toBuilder();
+    }
+
+    /**
+     * Returns a new builder starting from this version. This version is not
+     * affected by changes made through the builder.
+     */
+    public Builder<S> toBuilder() {
+        return new Builder<>(this);
+    }
+
+    private static int tailOffset(int size) {
+        return size < WIDTH ? 0 : ((size - 1) >>> SHIFT) << SHIFT;
+    }
+
+    private static Object[] leafFor(int index, int size, int shift, Node root, Object[] tail) {
+        if (index >= tailOffset(size))
+            return tail;
+        Node node = root;
+        for (int level = shift; level > 0; level -= SHIFT)
+            node = (Node) node.array[(index >>> level) & MASK];
+        return node.array;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public S get(int index) {
+        Objects.checkIndex(index, size);
+        return (S) leafFor(index, size, shift, root, tail)[index & MASK];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns a new version of this list with the element at the specified
+     * position replaced. Passing {@code index == size()} appends the element.
+     *
+     * @throws IndexOutOfBoundsException if the index is out of range
+     *                                   ({@code index < 0 || index > size()})
+     */
+    public PersistentCustomList<S> with(int index, S element) {
+        if (index == size)
+            return plus(element);
+        Objects.checkIndex(index, size);
+        if (index >= tailOffset(size)) {
+            Object[] newTail = tail.clone();
+            newTail[index & MASK] = element;
+            return new PersistentCustomList<>(size, shift, root, newTail);
+        }
+        return new PersistentCustomList<>(size, shift, doAssoc(shift, root, index, element), tail);
+    }
+
+    private static Node doAssoc(int level, Node node, int index, Object element) {
+        Node ret = new Node(node.edit, node.array.clone());
+        if (level == 0) {
+            ret.array[index & MASK] = element;
+        } else {
+            int subIndex = (index >>> level) & MASK;
+            ret.array[subIndex] = doAssoc(level - SHIFT, (Node) node.array[subIndex], index, element);
+        }
+        return ret;
+    }
+
+    /**
+     * Returns a new version of this list with the specified element
+     * appended.
+     */
+    public PersistentCustomList<S> plus(S element) {
+        if (size - tailOffset(size) < WIDTH) {
+            Object[] newTail = Arrays.copyOf(tail, tail.length + 1);
+            newTail[tail.length] = element;
+            return new PersistentCustomList<>(size + 1, shift, root, newTail);
+        }
+        // full tail, push into tree
+        Node tailNode = new Node(root.edit, tail);
+        Node newRoot;
+        int newShift = shift;
+        if ((size >>> SHIFT) > (1 << shift)) {
+            // overflow root
+            newRoot = new Node(root.edit);
+            newRoot.array[0] = root;
+            newRoot.array[1] = newPath(root.edit, shift, tailNode);
+            newShift += SHIFT;
+        } else {
+            newRoot = pushTail(size, shift, root, tailNode);
+        }
+        return new PersistentCustomList<>(size + 1, newShift, newRoot, new Object[]{element});
+    }
+
+    private static Node pushTail(int size, int level, Node parent, Node tailNode) {
+        int subIndex = ((size - 1) >>> level) & MASK;
+        Node ret = new Node(parent.edit, parent.array.clone());
+        Node nodeToInsert;
+        if (level == SHIFT) {
+            nodeToInsert = tailNode;
+        } else {
+            Node child = (Node) parent.array[subIndex];
+            nodeToInsert = (child != null)
+                    ? pushTail(size, level - SHIFT, child, tailNode)
+                    : newPath(parent.edit, level - SHIFT, tailNode);
+        }
+        ret.array[subIndex] = nodeToInsert;
+        return ret;
+    }
+
+    private static Node newPath(Object edit, int level, Node node) {
+        if (level == 0)
+            return node;
+        Node ret = new Node(edit);
+        ret.array[0] = newPath(edit, level - SHIFT, node);
+        return ret;
+    }
+
+    @Override
+    public Iterator<S> iterator() {
+        return new Itr();
+    }
+
+    /**
+     * Walks the leaves directly, descending the tree once per 32 elements.
+     */
+    private class Itr implements Iterator<S> {
+        int cursor;
+        Object[] leaf;
+
+        @Override
+        public boolean hasNext() {
+            return cursor < size;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public S next() {
+            int i = cursor;
+            if (i >= size)
+                throw new NoSuchElementException();
+            if ((i & MASK) == 0 || leaf == null)
+                leaf = leafFor(i, size, shift, root, tail);
+            cursor = i + 1;
+            return (S) leaf[i & MASK];
+        }
+    }
+
+    /**
+     * A transient, single-threaded builder of persistent lists. The builder
+     * mutates nodes it has created in place and path-copies shared nodes on
+     * first write, so batch construction costs amortized O(1) per element.
+     *
+     * @param <S> the type of elements in the list being built
+     */
+    public static final class Builder<S> {
+
+        /**
+         * Token of the nodes this builder may mutate. Replaced by every
+         * snapshot so that handed-out versions are never mutated.
+         */
+        private Object edit = new Object();
+
+        private int size;
+
+        private int shift;
+
+        private Node root;
+
+        /**
+         * Always {@code WIDTH} long; only the first
+         * {@code size - tailOffset(size)} slots are in use.
+         */
+        private Object[] tail;
+
+        Builder(PersistentCustomList<S> list) {
+            this.size = list.size;
+            this.shift = list.shift;
+            this.root = new Node(edit, list.root.array.clone());
+            this.tail = Arrays.copyOf(list.tail, WIDTH);
+        }
+
+        private Node ensureEditable(Node node) {
+            return node.edit == edit ? node : new Node(edit, node.array.clone());
+        }
+
+        /**
+         * Returns the number of elements added so far.
+         */
+        public int size() {
+            return size;
+        }
+
+        /**
+         * Returns the element at the specified position.
+         *
+         * @throws IndexOutOfBoundsException if the index is out of range
+         */
+        @SuppressWarnings("unchecked")
+        public S get(int index) {
+            Objects.checkIndex(index, size);
+            return (S) leafFor(index, size, shift, root, tail)[index & MASK];
+        }
+
+        /**
+         * Appends the specified element.
+         *
+         * @return this builder
+         */
+        public Builder<S> add(S element) {
+            int i = size;
+            if (i - tailOffset(i) < WIDTH) {
+                tail[i & MASK] = element;
+                size = i + 1;
+                return this;
+            }
+            // full tail, push into tree
+            Node tailNode = new Node(edit, tail);
+            tail = new Object[WIDTH];
+            tail[0] = element;
+            Node newRoot;
+            int newShift = shift;
+            if ((size >>> SHIFT) > (1 << shift)) {
+                newRoot = new Node(edit);
+                newRoot.array[0] = root;
+                newRoot.array[1] = newPath(edit, shift, tailNode);
+                newShift += SHIFT;
+            } else {
+                newRoot = pushTail(shift, root, tailNode);
+            }
+            root = newRoot;
+            shift = newShift;
+            size = i + 1;
+            return this;
+        }
+
+        private Node pushTail(int level, Node parent, Node tailNode) {
+            parent = ensureEditable(parent);
+            int subIndex = ((size - 1) >>> level) & MASK;
+            Node nodeToInsert;
+            if (level == SHIFT) {
+                nodeToInsert = tailNode;
+            } else {
+                Node child = (Node) parent.array[subIndex];
+                nodeToInsert = (child != null)
+                        ? pushTail(level - SHIFT, child, tailNode)
+                        : newPath(edit, level - SHIFT, tailNode);
+            }
+            parent.array[subIndex] = nodeToInsert;
+            return parent;
+        }
+
+        /**
+         * Replaces the element at the specified position.
+         *
+         * @return this builder
+         * @throws IndexOutOfBoundsException if the index is out of range
+         */
+        public Builder<S> set(int index, S element) {
+            Objects.checkIndex(index, size);
+            if (index >= tailOffset(size)) {
+                tail[index & MASK] = element;
+            } else {
+                root = doAssoc(shift, root, index, element);
+            }
+            return this;
+        }
+
+        private Node doAssoc(int level, Node node, int index, Object element) {
+            Node ret = ensureEditable(node);
+            if (level == 0) {
+                ret.array[index & MASK] = element;
+            } else {
+                int subIndex = (index >>> level) & MASK;
+                ret.array[subIndex] = doAssoc(level - SHIFT, (Node) node.array[subIndex], index, element);
+            }
+            return ret;
+        }
+
+        /**
+         * Returns a persistent version holding the current elements. This is
+         * O(1); the builder stays usable, and later writes copy the nodes
+         * they touch instead of mutating the returned version.
+         */
+        public PersistentCustomList<S> snapshot() {
+            if (size == 0)
+                return empty();
+            Object[] trimmedTail = Arrays.copyOf(tail, size - tailOffset(size));
+            PersistentCustomList<S> result = new PersistentCustomList<>(size, shift, root, trimmedTail);
+            edit = new Object();
+            return result;
+        }
+    }
+}
@@ -0,0 +1,316 @@
+package org.example;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.Arrays;
+
+/**
+ * Search, aggregate, compare and fill loops over the storage of
+ * {@link IntCustomList}, {@link LongCustomList} and
+ * {@link DoubleCustomList}.
+ * <p>
+ * When the build includes the Vector API kernels (the {@code vector-api}
+ * Maven profile) and the incubating {@code jdk.incubator.vector} module is
+ * resolved (run with {@code --add-modules jdk.incubator.vector}), the kernels
+ * use the Vector API and process a whole SIMD register per step. Otherwise
+ * they fall back to plain scalar loops automatically. The vectorized path can also be
+ * switched off with the system property {@code org.example.vectorKernels=false}
+ * or at runtime with {@link #setVectorized(boolean)}, so both paths can be
+ * compared.
+ * <p>
+ * Both paths return identical results, with one exception: the vectorized
+ * {@code double} sum adds the values in a different order and may differ
+ * from the scalar sum in the last bits. {@code double} values are compared
+ * the way {@link Double#equals(Object)} does.
+ */
+public final class PrimitiveKernels {
+
+    /**
+     * The Vector API kernels, or {@code null} if they were not compiled or
+     * the module is not present.
+     */
+    private static final Vectorized VECTOR = loadVectorKernels();
+
+    private static final boolean VECTOR_AVAILABLE = VECTOR != null;
+
+    private static volatile boolean vectorized = VECTOR_AVAILABLE
+            && Boolean.parseBoolean(System.getProperty("org.example.vectorKernels", "true"));
+
+    private PrimitiveKernels() {
+    }
+
+    /**
+     * The kernels with a Vector API implementation. Declared here so that
+     * this class compiles without {@code jdk.incubator.vector}.
+     */
+    interface Vectorized {
+        int indexOf(int[] a, int from, int to, int value);
+
+        int indexOf(long[] a, int from, int to, long value);
+
+        int indexOf(double[] a, int from, int to, double value);
+
+        int count(int[] a, int from, int to, int value);
+
+        int count(long[] a, int from, int to, long value);
+
+        int count(double[] a, int from, int to, double value);
+
+        long sum(int[] a, int from, int to);
+
+        long sum(long[] a, int from, int to);
+
+        double sum(double[] a, int from, int to);
+
+        int min(int[] a, int from, int to);
+
+        long min(long[] a, int from, int to);
+
+        double min(double[] a, int from, int to);
+
+        int max(int[] a, int from, int to);
+
+        long max(long[] a, int from, int to);
+
+        double max(double[] a, int from, int to);
+
+        boolean equals(int[] a, int[] b, int length);
+
+        boolean equals(long[] a, long[] b, int length);
+
+        boolean equals(double[] a, double[] b, int length);
+
+        void fill(int[] a, int from, int to, int value);
+
+        void fill(long[] a, int from, int to, long value);
+
+        void fill(double[] a, int from, int to, double value);
+    }
+
+    private static Vectorized loadVectorKernels() {
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty())
+            return null;
+        try {
+            return (Vectorized) Class.forName("org.example.VectorKernels")
+                    .getDeclaredConstructor().newInstance();
+        } catch (ClassNotFoundException | NoSuchMethodException | InstantiationException
+                 | IllegalAccessException | InvocationTargetException | LinkageError e) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns {@code true} if the Vector API kernels were compiled and the
+     * Vector API module is present.
+     */
+    public static boolean isVectorAvailable() {
+        return VECTOR_AVAILABLE;
+    }
+
+    /**
+     * Returns {@code true} if the kernels currently use the Vector API.
+     */
+    public static boolean isVectorized() {
+        return vectorized;
+    }
+
+    /**
+     * Switches the kernels between the Vector API and the scalar loops.
+     * Enabling has no effect when the Vector API kernels are not available.
+     *
+     * @return whether the kernels use the Vector API after this call
+     */
+    public static boolean setVectorized(boolean enabled) {
+        return vectorized = enabled && VECTOR_AVAILABLE;
+    }
+
+    // indexOf
+
+    static int indexOf(int[] a, int from, int to, int value) {
+        if (vectorized)
+            return VECTOR.indexOf(a, from, to, value);
+        for (int i = from; i < to; i++)
+            if (a[i] == value)
+                return i;
+        return -1;
+    }
+
+    static int indexOf(long[] a, int from, int to, long value) {
+        if (vectorized)
+            return VECTOR.indexOf(a, from, to, value);
+        for (int i = from; i < to; i++)
+            if (a[i] == value)
+                return i;
+        return -1;
+    }
+
+    static int indexOf(double[] a, int from, int to, double value) {
+        if (vectorized)
+            return VECTOR.indexOf(a, from, to, value);
+        long bits = Double.doubleToLongBits(value);
+        for (int i = from; i < to; i++)
+            if (Double.doubleToLongBits(a[i]) == bits)
+                return i;
+        return -1;
+    }
+
+    // count
+
+    static int count(int[] a, int from, int to, int value) {
+        if (vectorized)
+            return VECTOR.count(a, from, to, value);
+        int n = 0;
+        for (int i = from; i < to; i++)
+            if (a[i] == value)
+                n++;
+        return n;
+    }
+
+    static int count(long[] a, int from, int to, long value) {
+        if (vectorized)
+            return VECTOR.count(a, from, to, value);
+        int n = 0;
+        for (int i = from; i < to; i++)
+            if (a[i] == value)
+                n++;
+        return n;
+    }
+
+    static int count(double[] a, int from, int to, double value) {
+        if (vectorized)
+            return VECTOR.count(a, from, to, value);
+        long bits = Double.doubleToLongBits(value);
+        int n = 0;
+        for (int i = from; i < to; i++)
+            if (Double.doubleToLongBits(a[i]) == bits)
+                n++;
+        return n;
+    }
+
+    // sum
+
+    static long sum(int[] a, int from, int to) {
+        if (vectorized)
+            return VECTOR.sum(a, from, to);
+        long sum = 0;
+        for (int i = from; i < to; i++)
+            sum += a[i];
+        return sum;
+    }
+
+    static long sum(long[] a, int from, int to) {
+        if (vectorized)
+            return VECTOR.sum(a, from, to);
+        long sum = 0;
+        for (int i = from; i < to; i++)
+            sum += a[i];
+        return sum;
+    }
+
+    static double sum(double[] a, int from, int to) {
+        if (vectorized)
+            return VECTOR.sum(a, from, to);
+        double sum = 0;
+        for (int i = from; i < to; i++)
+            sum += a[i];
+        return sum;
+    }
+
+    // min / max, over non-empty ranges
+
+    static int min(int[] a, int from, int to) {
+        if (vectorized)
+            return VECTOR.min(a, from, to);
+        int min = a[from];
+        for (int i = from + 1; i < to; i++)
+            min = Math.min(min, a[i]);
+        return min;
+    }
+
+    static long min(long[] a, int from, int to) {
+        if (vectorized)
+            return VECTOR.min(a, from, to);
+        long min = a[from];
+        for (int i = from + 1; i < to; i++)
+            min = Math.min(min, a[i]);
+        return min;
+    }
+
+    static double min(double[] a, int from, int to) {
+        if (vectorized)
+            return VECTOR.min(a, from, to);
+        double min = a[from];
+        for (int i = from + 1; i < to; i++)
+            min = Math.min(min, a[i]);
+        return min;
+    }
+
+    static int max(int[] a, int from, int to) {
+        if (vectorized)
+            return VECTOR.max(a, from, to);
+        int max = a[from];
+        for (int i = from + 1; i < to; i++)
+            max = Math.max(max, a[i]);
+        return max;
+    }
+
+    static long max(long[] a, int from, int to) {
+        if (vectorized)
+            return VECTOR.max(a, from, to);
+        long max = a[from];
+        for (int i = from + 1; i < to; i++)
+            max = Math.max(max, a[i]);
+        return max;
+    }
+
+    static double max(double[] a, int from, int to) {
+        if (vectorized)
+            return VECTOR.max(a, from, to);
+        double max = a[from];
+        for (int i = from + 1; i < to; i++)
+            max = Math.max(max, a[i]);
+        return max;
+    }
+
+    // equals, over the first length values of both arrays
+
+    static boolean equals(int[] a, int[] b, int length) {
+        if (vectorized)
+            return VECTOR.equals(a, b, length);
+        return Arrays.equals(a, 0, length, b, 0, length);
+    }
+
+    static boolean equals(long[] a, long[] b, int length) {
+        if (vectorized)
+            return VECTOR.equals(a, b, length);
+        return Arrays.equals(a, 0, length, b, 0, length);
+    }
+
+    static boolean equals(double[] a, double[] b, int length) {
+        if (vectorized)
+            return VECTOR.equals(a, b, length);
+        return Arrays.equals(a, 0, length, b, 0, length);
+    }
+
+    // fill
+
+    static void fill(int[] a, int from, int to, int value) {
+        if (vectorized)
+            VECTOR.fill(a, from, to, value);
+        else
+            Arrays.fill(a, from, to, value);
+    }
+
+    static void fill(long[] a, int from, int to, long value) {
+        if (vectorized)
+            VECTOR.fill(a, from, to, value);
+        else
+            Arrays.fill(a, from, to, value);
+    }
+
+    static void fill(double[] a, int from, int to, double value) {
+        if (vectorized)
+            VECTOR.fill(a, from, to, value);
+        else
+            Arrays.fill(a, from, to, value);
+    }
+}
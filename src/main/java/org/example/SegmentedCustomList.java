@@ -0,0 +1,352 @@
+package org.example;
+
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * A {@link CustomList} variant that stores its elements in a directory of
+ * fixed-size chunks instead of one contiguous array. Growing the list only
+ * allocates a new chunk (and occasionally copies the small directory), so
+ * existing elements are never copied and peak memory never doubles the way
+ * it does when {@code CustomList.grow(int)} copies a huge backing array.
+ * <p>
+ * Elements are addressed with {@code long} indices through
+ * {@link #get(long)}, {@link #set(long, Object)} and {@link #longSize()}, so
+ * a single list can hold more than {@code Integer.MAX_VALUE} elements. The
+ * {@code int}-based {@link List} methods keep working for the first
+ * {@code Integer.MAX_VALUE} elements and {@link #size()} saturates at
+ * {@code Integer.MAX_VALUE} as required by {@link Collection#size()}.
+ * <p>
+ * The list grows and shrinks at its end. Inserting or removing at another
+ * position shifts the elements behind it by one, with one
+ * {@code System.arraycopy} per chunk plus one element carried across each
+ * chunk boundary, so it costs O(n - index) like it does in
+ * {@link CustomList}.
+ *
+ * @param <S> the type of elements in this list
+ */
+public class SegmentedCustomList<S> extends AbstractList<S> implements RandomAccess {
+
+    /**
+     * Default number of index bits addressing an element inside a chunk,
+     * giving chunks of 16384 elements.
+     */
+    private static final int DEFAULT_CHUNK_SHIFT = 14;
+
+    /**
+     * Shared empty directory used for empty instances.
+     */
+    private static final Object[][] EMPTY_DIRECTORY = {};
+
+    private final int chunkShift;
+
+    private final int chunkMask;
+
+    /**
+     * The directory of chunks. Only the first {@code chunkCount} entries are
+     * allocated.
+     */
+    transient Object[][] directory; // non-private to simplify nested class access
+
+    private int chunkCount;
+
+    /**
+     * The size of the list (the number of elements it contains).
+     */
+    private long size;
+
+    /**
+     * Constructs an empty list with chunks of 16384 elements.
+     */
+    public SegmentedCustomList() {
+        this(DEFAULT_CHUNK_SHIFT);
+    }
+
+    /**
+     * Constructs an empty list with chunks of {@code 1 << chunkShift}
+     * elements.
+     *
+     * @throws IllegalArgumentException if chunkShift is not between 1 and 30
+     */
+    public SegmentedCustomList(int chunkShift) {
+        if (chunkShift < 1 || chunkShift > 30) {
+            throw new IllegalArgumentException("Illegal chunk shift: " + chunkShift);
+        }
+        this.chunkShift = chunkShift;
+        this.chunkMask = (1 << chunkShift) - 1;
+        this.directory = EMPTY_DIRECTORY;
+    }
+
+    private String outOfBoundsMsg(long index) {
+        return "Index: " + index + ", Size: " + size;
+    }
+
+    private void checkIndex(long index) {
+        if (index < 0 || index >= size)
+            throw new IndexOutOfBoundsException(outOfBoundsMsg(index));
+    }
+
+    /**
+     * Returns the element at the specified position in this list.
+     *
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @SuppressWarnings("unchecked")
+    public S get(long index) {
+        checkIndex(index);
+        return (S) directory[(int) (index >>> chunkShift)][(int) index & chunkMask];
+    }
+
+    @Override
+    public S get(int index) {
+        return get((long) index);
+    }
+
+    /**
+     * Replaces the element at the specified position in this list.
+     *
+     * @return the element previously at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @SuppressWarnings("unchecked")
+    public S set(long index, S element) {
+        checkIndex(index);
+        Object[] chunk = directory[(int) (index >>> chunkShift)];
+        int i = (int) index & chunkMask;
+        S oldValue = (S) chunk[i];
+        chunk[i] = element;
+        return oldValue;
+    }
+
+    @Override
+    public S set(int index, S element) {
+        return set((long) index, element);
+    }
+
+    @Override
+    public boolean add(S element) {
+        final long s = size;
+        int c = (int) (s >>> chunkShift);
+        if (c == chunkCount)
+            addChunk();
+        directory[c][(int) s & chunkMask] = element;
+        size = s + 1;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Inserts the element at the specified position in this list, shifting
+     * the element currently at that position and any subsequent elements to
+     * the right.
+     *
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public void add(long index, S element) {
+        final long s = size;
+        if (index < 0 || index > s)
+            throw new IndexOutOfBoundsException(outOfBoundsMsg(index));
+        final int last = (int) (s >>> chunkShift);
+        if (last == chunkCount)
+            addChunk();
+        final Object[][] dir = directory;
+        final int first = (int) (index >>> chunkShift);
+        final int offset = (int) index & chunkMask;
+        // from the back, shift each chunk right by one and carry the last
+        // element of the previous chunk into its first slot
+        for (int c = last; c > first; c--) {
+            Object[] chunk = dir[c];
+            System.arraycopy(chunk, 0, chunk, 1, c == last ? (int) s & chunkMask : chunkMask);
+            chunk[0] = dir[c - 1][chunkMask];
+        }
+        Object[] chunk = dir[first];
+        int end = first == last ? (int) s & chunkMask : chunkMask;
+        System.arraycopy(chunk, offset, chunk, offset + 1, end - offset);
+        chunk[offset] = element;
+        size = s + 1;
+        modCount++;
+    }
+
+    @Override
+    public void add(int index, S element) {
+        add((long) index, element);
+    }
+
+    /**
+     * Removes the element at the specified position in this list, shifting
+     * any subsequent elements to the left.
+     *
+     * @return the element that was removed from the list
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @SuppressWarnings("unchecked")
+    public S remove(long index) {
+        checkIndex(index);
+        final long lastIndex = size - 1;
+        if (index == lastIndex)
+            return removeLast();
+        final Object[][] dir = directory;
+        final int first = (int) (index >>> chunkShift);
+        final int last = (int) (lastIndex >>> chunkShift);
+        final int offset = (int) index & chunkMask;
+        Object[] chunk = dir[first];
+        S oldValue = (S) chunk[offset];
+        // from the front, shift each chunk left by one and carry the first
+        // element of the next chunk into its last slot
+        int end = first == last ? (int) lastIndex & chunkMask : chunkMask;
+        System.arraycopy(chunk, offset + 1, chunk, offset, end - offset);
+        for (int c = first + 1; c <= last; c++) {
+            dir[c - 1][chunkMask] = dir[c][0];
+            chunk = dir[c];
+            System.arraycopy(chunk, 1, chunk, 0, c == last ? (int) lastIndex & chunkMask : chunkMask);
+        }
+        dir[last][(int) lastIndex & chunkMask] = null;
+        size = lastIndex;
+        if ((lastIndex & chunkMask) == 0)
+            chunkCount--; // the chunk stays cached in the directory for reuse
+        modCount++;
+        return oldValue;
+    }
+
+    @Override
+    public S remove(int index) {
+        return remove((long) index);
+    }
+
+    /**
+     * Allocates one more chunk. Only the directory is ever copied, and it
+     * holds one reference per chunk.
+     */
+    private void addChunk() {
+        Object[][] dir = directory;
+        int c = chunkCount;
+        if (c == dir.length)
+            dir = directory = Arrays.copyOf(dir, CustomList.newLength(dir.length, c + 1));
+        if (dir[c] == null)
+            dir[c] = new Object[1 << chunkShift];
+        chunkCount = c + 1;
+    }
+
+    /**
+     * Removes and returns the last element of this list.
+     *
+     * @throws NoSuchElementException if this list is empty
+     */
+    public S removeLast() {
+        if (size == 0)
+            throw new NoSuchElementException();
+        final long last = size - 1;
+        S oldValue = get(last);
+        directory[(int) (last >>> chunkShift)][(int) last & chunkMask] = null;
+        size = last;
+        if ((last & chunkMask) == 0)
+            chunkCount--; // the chunk stays cached in the directory for reuse
+        modCount++;
+        return oldValue;
+    }
+
+    /**
+     * Returns the number of elements in this list as a {@code long}.
+     */
+    public long longSize() {
+        return size;
+    }
+
+    /**
+     * Returns the number of elements in this list, or
+     * {@code Integer.MAX_VALUE} if it holds more elements than that.
+     */
+    @Override
+    public int size() {
+        return (int) Math.min(size, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes all of the elements from this list and releases all chunks.
+     */
+    @Override
+    public void clear() {
+        directory = EMPTY_DIRECTORY;
+        chunkCount = 0;
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Releases the chunks past the end of the list and trims the directory.
+     */
+    public void trimToSize() {
+        directory = chunkCount == 0
+                ? EMPTY_DIRECTORY
+                : Arrays.copyOf(directory, chunkCount);
+    }
+
+    /**
+     * Returns the number of elements this list can hold without allocating
+     * another chunk.
+     */
+    public long capacity() {
+        return (long) chunkCount << chunkShift;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(Consumer<? super S> action) {
+        Objects.requireNonNull(action);
+        final Object[][] dir = directory;
+        final long s = size;
+        for (long done = 0; done < s; ) {
+            Object[] chunk = dir[(int) (done >>> chunkShift)];
+            int n = (int) Math.min(chunk.length, s - done);
+            for (int i = 0; i < n; i++) {
+                action.accept((S) chunk[i]);
+            }
+            done += n;
+        }
+    }
+
+    @Override
+    public Iterator<S> iterator() {
+        return new Itr();
+    }
+
+    private class Itr implements Iterator<S> {
+        long cursor;       // index of next element to return
+        long lastRet = -1; // index of last element returned; -1 if no such
+        int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return cursor != size;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public S next() {
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+            long i = cursor;
+            if (i >= size)
+                throw new NoSuchElementException();
+            cursor = i + 1;
+            return (S) directory[(int) ((lastRet = i) >>> chunkShift)][(int) i & chunkMask];
+        }
+
+        @Override
+        public void remove() {
+            if (lastRet < 0)
+                throw new IllegalStateException();
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+            SegmentedCustomList.this.remove(lastRet);
+            cursor = lastRet;
+            lastRet = -1;
+            expectedModCount = modCount;
+        }
+    }
+}
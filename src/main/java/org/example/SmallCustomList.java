@@ -0,0 +1,246 @@
+package org.example;
+
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * A list optimized for holding only a few elements. Up to
+ * {@value #INLINE_CAPACITY} elements are kept in fields of the list object
+ * itself, so a small list is a single object without a backing array. The
+ * list inflates to an {@code elementData} array, grown with the policy of
+ * {@code CustomList.grow(int)}, on the first add beyond the inline
+ * capacity, and stays inflated until it is {@linkplain #clear() cleared}.
+ * <p>
+ * With compressed references an inline list of up to four elements takes 40
+ * bytes, where a {@link CustomList} takes its own 24 bytes plus 56 for the
+ * ten-slot array allocated on the first add.
+ *
+ * @param <S> the type of elements in this list
+ */
+public class SmallCustomList<S> extends AbstractList<S> implements RandomAccess {
+
+    /**
+     * The number of elements kept in fields before inflating.
+     */
+    static final int INLINE_CAPACITY = 4;
+
+    private Object e0, e1, e2, e3;
+
+    /**
+     * The array holding all elements once the list has inflated, or
+     * {@code null} while the elements are inline.
+     */
+    transient Object[] elementData; // non-private to simplify nested class access
+
+    /**
+     * The size of the list (the number of elements it contains).
+     */
+    private int size;
+
+    /**
+     * Constructs an empty list.
+     */
+    public SmallCustomList() {
+    }
+
+    /**
+     * Constructs a list containing the elements of the specified collection,
+     * in the order they are returned by the collection's iterator.
+     */
+    public SmallCustomList(Collection<? extends S> c) {
+        addAll(c);
+    }
+
+    private Object inline(int index) {
+        switch (index) {
+            case 0:
+                return e0;
+            case 1:
+                return e1;
+            case 2:
+                return e2;
+            default:
+                return e3;
+        }
+    }
+
+    private void setInline(int index, Object element) {
+        switch (index) {
+            case 0:
+                e0 = element;
+                break;
+            case 1:
+                e1 = element;
+                break;
+            case 2:
+                e2 = element;
+                break;
+            default:
+                e3 = element;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public S get(int index) {
+        Objects.checkIndex(index, size);
+        final Object[] es = elementData;
+        return (S) (es != null ? es[index] : inline(index));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public S set(int index, S element) {
+        Objects.checkIndex(index, size);
+        final Object[] es = elementData;
+        Object oldValue;
+        if (es != null) {
+            oldValue = es[index];
+            es[index] = element;
+        } else {
+            oldValue = inline(index);
+            setInline(index, element);
+        }
+        return (S) oldValue;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean add(S element) {
+        final int s = size;
+        final Object[] es = elementData;
+        if (es != null) {
+            (s == es.length ? grow(s + 1) : es)[s] = element;
+        } else if (s < INLINE_CAPACITY) {
+            setInline(s, element);
+        } else {
+            inflate(s + 1)[s] = element;
+        }
+        size = s + 1;
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public void add(int index, S element) {
+        final int s = size;
+        if (index > s || index < 0)
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + s);
+        Object[] es = elementData;
+        if (es == null && s < INLINE_CAPACITY) {
+            for (int i = s; i > index; i--)
+                setInline(i, inline(i - 1));
+            setInline(index, element);
+        } else {
+            if (es == null)
+                es = inflate(s + 1);
+            else if (s == es.length)
+                es = grow(s + 1);
+            System.arraycopy(es, index, es, index + 1, s - index);
+            es[index] = element;
+        }
+        size = s + 1;
+        modCount++;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public S remove(int index) {
+        final int s = size;
+        Objects.checkIndex(index, s);
+        final Object[] es = elementData;
+        Object oldValue;
+        if (es != null) {
+            oldValue = es[index];
+            System.arraycopy(es, index + 1, es, index, s - 1 - index);
+            es[s - 1] = null;
+        } else {
+            oldValue = inline(index);
+            for (int i = index; i < s - 1; i++)
+                setInline(i, inline(i + 1));
+            setInline(s - 1, null);
+        }
+        size = s - 1;
+        modCount++;
+        return (S) oldValue;
+    }
+
+    /**
+     * Removes all of the elements from this list and returns it to the
+     * inline representation, dropping any inflated array.
+     */
+    @Override
+    public void clear() {
+        e0 = e1 = e2 = e3 = null;
+        elementData = null;
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Moves the inline elements into a newly allocated array with room for
+     * at least {@code minCapacity} elements.
+     */
+    private Object[] inflate(int minCapacity) {
+        Object[] es = new Object[CustomList.newLength(INLINE_CAPACITY, minCapacity)];
+        es[0] = e0;
+        es[1] = e1;
+        es[2] = e2;
+        es[3] = e3;
+        e0 = e1 = e2 = e3 = null;
+        return elementData = es;
+    }
+
+    private Object[] grow(int minCapacity) {
+        return elementData = Arrays.copyOf(elementData, CustomList.newLength(elementData.length, minCapacity));
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        for (int i = 0, s = size; i < s; i++)
+            if (Objects.equals(o, get(i)))
+                return i;
+        return -1;
+    }
+
+    @Override
+    public int lastIndexOf(Object o) {
+        for (int i = size - 1; i >= 0; i--)
+            if (Objects.equals(o, get(i)))
+                return i;
+        return -1;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public void forEach(Consumer<? super S> action) {
+        Objects.requireNonNull(action);
+        final int expectedModCount = modCount;
+        final int s = size;
+        final Object[] es = elementData;
+        for (int i = 0; i < s && modCount == expectedModCount; i++)
+            action.accept((S) (es != null ? es[i] : inline(i)));
+        if (modCount != expectedModCount)
+            throw new ConcurrentModificationException();
+    }
+
+    @Override
+    public Object[] toArray() {
+        final Object[] es = elementData;
+        if (es != null)
+            return Arrays.copyOf(es, size);
+        Object[] a = new Object[size];
+        for (int i = 0; i < a.length; i++)
+            a[i] = inline(i);
+        return a;
+    }
+}
@@ -0,0 +1,360 @@
+package org.example;
+
+import java.util.*;
+
+/**
+ * A list that keeps its elements sorted by a comparator, or by their natural
+ * ordering, and finds positions by binary search.
+ * <p>
+ * {@link #add(Object)} inserts after any equal elements, so equal elements
+ * keep their insertion order. {@link #indexOf}, {@link #lastIndexOf},
+ * {@link #contains} and {@link #remove(Object)} take O(log n) comparisons
+ * and consider two elements equal when the comparator returns zero, like
+ * {@link TreeSet} does. {@link #addAll(Collection)} sorts the input unless
+ * it is already sorted, finds the positions of the new elements by binary
+ * search and merges them with the list in a single pass from the back, so
+ * adding k elements costs O(k log n + k log k) comparisons and O(n + k)
+ * moves instead of k shifting inserts.
+ * <p>
+ * Positional insertion and {@link #set} would break the ordering and throw
+ * {@link UnsupportedOperationException}. The backing array grows with the
+ * policy of {@code CustomList.grow(int)}.
+ *
+ * @param <S> the type of elements in this list
+ */
+public class SortedCustomList<S> extends AbstractList<S> implements RandomAccess {
+
+    /**
+     * Shared empty array instance used for empty instances.
+     */
+    private static final Object[] EMPTY_ELEMENTDATA = {};
+
+    private final Comparator<? super S> comparator;
+
+    /**
+     * The array buffer into which the elements of the list are stored, in
+     * sorted order.
+     */
+    transient Object[] elementData; // non-private to simplify nested class access
+
+    /**
+     * The size of the list (the number of elements it contains).
+     */
+    private int size;
+
+    /**
+     * Constructs an empty list sorted by the natural ordering of its
+     * elements.
+     */
+    public SortedCustomList() {
+        this((Comparator<? super S>) null);
+    }
+
+    /**
+     * Constructs an empty list sorted by the specified comparator, or by the
+     * natural ordering of its elements if the comparator is {@code null}.
+     */
+    public SortedCustomList(Comparator<? super S> comparator) {
+        this.comparator = comparator;
+        this.elementData = EMPTY_ELEMENTDATA;
+    }
+
+    /**
+     * Constructs a list containing the elements of the specified collection,
+     * sorted by the specified comparator.
+     */
+    public SortedCustomList(Collection<? extends S> c, Comparator<? super S> comparator) {
+        this(comparator);
+        addAll(c);
+    }
+
+    /**
+     * Returns the comparator that orders this list, or {@code null} if it
+     * uses the natural ordering of its elements.
+     */
+    public Comparator<? super S> comparator() {
+        return comparator;
+    }
+
+    @SuppressWarnings("unchecked")
+    private int compare(Object a, Object b) {
+        return comparator != null
+                ? comparator.compare((S) a, (S) b)
+                : ((Comparable<Object>) a).compareTo(b);
+    }
+
+    /**
+     * Returns the index of the first element not less than {@code o}.
+     */
+    private int lowerBound(Object o) {
+        final Object[] es = elementData;
+        int lo = 0, hi = size;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (compare(es[mid], o) < 0)
+                lo = mid + 1;
+            else
+                hi = mid;
+        }
+        return lo;
+    }
+
+    /**
+     * Returns the index of the first element greater than {@code o}.
+     */
+    private int upperBound(Object o) {
+        final Object[] es = elementData;
+        int lo = 0, hi = size;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (compare(es[mid], o) <= 0)
+                lo = mid + 1;
+            else
+                hi = mid;
+        }
+        return lo;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public S get(int index) {
+        Objects.checkIndex(index, size);
+        return (S) elementData[index];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Inserts the element at its sorted position, after any equal elements.
+     *
+     * @return {@code true}
+     * @throws ClassCastException if the element cannot be compared with the
+     *                            elements of this list
+     */
+    @Override
+    public boolean add(S element) {
+        if (size == 0)
+            compare(element, element); // type (and null) check
+        int index = upperBound(element);
+        final int s = size;
+        Object[] es = elementData;
+        if (s == es.length)
+            es = grow(s + 1);
+        System.arraycopy(es, index, es, index + 1, s - index);
+        es[index] = element;
+        size = s + 1;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Not supported, since the position of an element follows from its
+     * ordering.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void add(int index, S element) {
+        throw new UnsupportedOperationException("SortedCustomList determines positions");
+    }
+
+    /**
+     * Not supported, since replacing an element could break the ordering.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public S set(int index, S element) {
+        throw new UnsupportedOperationException("SortedCustomList determines positions");
+    }
+
+    /**
+     * Adds all of the elements of the collection. The elements are copied,
+     * checked and sorted, unless they already are in order. Their positions
+     * in this list are then found by binary search, and only after every
+     * comparison has succeeded are they merged with this list in one linear
+     * pass from the back of the backing array. A comparator that throws
+     * therefore leaves this list unchanged.
+     *
+     * @return {@code true} if this list changed as a result of the call
+     * @throws ClassCastException if an element cannot be compared with the
+     *                            elements of this list
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public boolean addAll(Collection<? extends S> c) {
+        Object[] a = c.toArray();
+        final int numNew = a.length;
+        if (numNew == 0)
+            return false;
+        for (Object e : a)
+            compare(e, e); // type (and null) check
+        if (!isSorted(a))
+            Arrays.sort((S[]) a, comparator);
+        final int s = size;
+        // positions[j] is the number of existing elements before a[j]; on
+        // ties the new element goes after the existing ones
+        final int[] positions = new int[numNew];
+        final Object[] old = elementData;
+        for (int j = 0, lo = 0; j < numNew; j++) {
+            int hi = s;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (compare(old[mid], a[j]) <= 0)
+                    lo = mid + 1;
+                else
+                    hi = mid;
+            }
+            positions[j] = lo;
+        }
+        Object[] es = old;
+        if (numNew > es.length - s)
+            es = grow(s + numNew);
+        // merge from the back so that no element is moved twice
+        int i = s - 1, w = s + numNew - 1;
+        for (int j = numNew - 1; j >= 0; j--) {
+            for (int p = positions[j]; i >= p; )
+                es[w--] = es[i--];
+            es[w--] = a[j];
+        }
+        size = s + numNew;
+        modCount++;
+        return true;
+    }
+
+    private boolean isSorted(Object[] a) {
+        for (int i = 1; i < a.length; i++)
+            if (compare(a[i - 1], a[i]) > 0)
+                return false;
+        return true;
+    }
+
+    /**
+     * Not supported, since the position of an element follows from its
+     * ordering.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public boolean addAll(int index, Collection<? extends S> c) {
+        throw new UnsupportedOperationException("SortedCustomList determines positions");
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public S remove(int index) {
+        Objects.checkIndex(index, size);
+        final Object[] es = elementData;
+        S oldValue = (S) es[index];
+        final int newSize = size - 1;
+        System.arraycopy(es, index + 1, es, index, newSize - index);
+        es[size = newSize] = null;
+        modCount++;
+        return oldValue;
+    }
+
+    /**
+     * Removes the first element that compares equal to {@code o}, found by
+     * binary search.
+     *
+     * @return {@code true} if an element was removed
+     * @throws ClassCastException if {@code o} cannot be compared with the
+     *                            elements of this list
+     */
+    @Override
+    public boolean remove(Object o) {
+        int index = indexOf(o);
+        if (index < 0)
+            return false;
+        remove(index);
+        return true;
+    }
+
+    /**
+     * Returns the index of the first element that compares equal to
+     * {@code o}, or -1 if there is none, found by binary search.
+     *
+     * @throws ClassCastException if {@code o} cannot be compared with the
+     *                            elements of this list
+     */
+    @Override
+    public int indexOf(Object o) {
+        int index = lowerBound(o);
+        return index < size && compare(elementData[index], o) == 0 ? index : -1;
+    }
+
+    /**
+     * Returns the index of the last element that compares equal to
+     * {@code o}, or -1 if there is none, found by binary search.
+     *
+     * @throws ClassCastException if {@code o} cannot be compared with the
+     *                            elements of this list
+     */
+    @Override
+    public int lastIndexOf(Object o) {
+        int index = upperBound(o) - 1;
+        return index >= 0 && compare(elementData[index], o) == 0 ? index : -1;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(elementData, 0, size, null);
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Returns an unmodifiable view of the elements strictly less than
+     * {@code toElement}.
+     */
+    public List<S> headRange(S toElement) {
+        return Collections.unmodifiableList(subList(0, lowerBound(toElement)));
+    }
+
+    /**
+     * Returns an unmodifiable view of the elements greater than or equal to
+     * {@code fromElement}.
+     */
+    public List<S> tailRange(S fromElement) {
+        return Collections.unmodifiableList(subList(lowerBound(fromElement), size));
+    }
+
+    /**
+     * Returns an unmodifiable view of the elements greater than or equal to
+     * {@code fromElement} and strictly less than {@code toElement}.
+     *
+     * @throws IllegalArgumentException if {@code fromElement} is greater than
+     *                                  {@code toElement}
+     */
+    public List<S> range(S fromElement, S toElement) {
+        if (compare(fromElement, toElement) > 0)
+            throw new IllegalArgumentException("fromElement > toElement");
+        return Collections.unmodifiableList(subList(lowerBound(fromElement), lowerBound(toElement)));
+    }
+
+    /**
+     * Trims the capacity of this list to be the list's current size.
+     */
+    public void trimToSize() {
+        if (size < elementData.length)
+            elementData = size == 0 ? EMPTY_ELEMENTDATA : Arrays.copyOf(elementData, size);
+    }
+
+    private Object[] grow(int minCapacity) {
+        return elementData = Arrays.copyOf(elementData,
+                CustomList.newLength(elementData.length, Math.max(minCapacity, 10)));
+    }
+
+    @Override
+    public Object[] toArray() {
+        return Arrays.copyOf(elementData, size);
+    }
+}
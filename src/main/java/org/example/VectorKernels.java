@@ -0,0 +1,350 @@
+package org.example;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Vector API implementations of the {@link PrimitiveKernels}. Every kernel
+ * processes whole vectors of the platform's preferred shape and finishes the
+ * remaining tail of the range with scalar code.
+ * <p>
+ * This class references {@code jdk.incubator.vector}. It is only compiled
+ * with the {@code vector-api} Maven profile and is only loaded, reflectively,
+ * when that module is present; {@link PrimitiveKernels} guarantees this.
+ */
+final class VectorKernels implements PrimitiveKernels.Vectorized {
+
+    private static final VectorSpecies<Integer> INTS = IntVector.SPECIES_PREFERRED;
+
+    private static final VectorSpecies<Long> LONGS = LongVector.SPECIES_PREFERRED;
+
+    private static final VectorSpecies<Double> DOUBLES = DoubleVector.SPECIES_PREFERRED;
+
+    VectorKernels() {
+    }
+
+    // indexOf
+
+    @Override
+    public int indexOf(int[] a, int from, int to, int value) {
+        int i = from;
+        for (int bound = from + INTS.loopBound(to - from); i < bound; i += INTS.length()) {
+            VectorMask<Integer> m = IntVector.fromArray(INTS, a, i).eq(value);
+            if (m.anyTrue())
+                return i + m.firstTrue();
+        }
+        for (; i < to; i++)
+            if (a[i] == value)
+                return i;
+        return -1;
+    }
+
+    @Override
+    public int indexOf(long[] a, int from, int to, long value) {
+        int i = from;
+        for (int bound = from + LONGS.loopBound(to - from); i < bound; i += LONGS.length()) {
+            VectorMask<Long> m = LongVector.fromArray(LONGS, a, i).eq(value);
+            if (m.anyTrue())
+                return i + m.firstTrue();
+        }
+        for (; i < to; i++)
+            if (a[i] == value)
+                return i;
+        return -1;
+    }
+
+    @Override
+    public int indexOf(double[] a, int from, int to, double value) {
+        long bits = Double.doubleToLongBits(value);
+        boolean nan = value != value;
+        int i = from;
+        for (int bound = from + DOUBLES.loopBound(to - from); i < bound; i += DOUBLES.length()) {
+            VectorMask<?> m = matches(DoubleVector.fromArray(DOUBLES, a, i), bits, nan);
+            if (m.anyTrue())
+                return i + m.firstTrue();
+        }
+        for (; i < to; i++)
+            if (Double.doubleToLongBits(a[i]) == bits)
+                return i;
+        return -1;
+    }
+
+    /**
+     * Lanes equal to the value in the sense of {@link Double#equals}: any
+     * {@code NaN} matches {@code NaN}, and otherwise the raw bits must match,
+     * which keeps {@code 0.0} and {@code -0.0} apart.
+     */
+    private static VectorMask<?> matches(DoubleVector v, long bits, boolean nan) {
+        return nan ? v.test(VectorOperators.IS_NAN) : v.viewAsIntegralLanes().eq(bits);
+    }
+
+    // count
+
+    @Override
+    public int count(int[] a, int from, int to, int value) {
+        int n = 0, i = from;
+        for (int bound = from + INTS.loopBound(to - from); i < bound; i += INTS.length())
+            n += IntVector.fromArray(INTS, a, i).eq(value).trueCount();
+        for (; i < to; i++)
+            if (a[i] == value)
+                n++;
+        return n;
+    }
+
+    @Override
+    public int count(long[] a, int from, int to, long value) {
+        int n = 0, i = from;
+        for (int bound = from + LONGS.loopBound(to - from); i < bound; i += LONGS.length())
+            n += LongVector.fromArray(LONGS, a, i).eq(value).trueCount();
+        for (; i < to; i++)
+            if (a[i] == value)
+                n++;
+        return n;
+    }
+
+    @Override
+    public int count(double[] a, int from, int to, double value) {
+        long bits = Double.doubleToLongBits(value);
+        boolean nan = value != value;
+        int n = 0, i = from;
+        for (int bound = from + DOUBLES.loopBound(to - from); i < bound; i += DOUBLES.length())
+            n += matches(DoubleVector.fromArray(DOUBLES, a, i), bits, nan).trueCount();
+        for (; i < to; i++)
+            if (Double.doubleToLongBits(a[i]) == bits)
+                n++;
+        return n;
+    }
+
+    // sum
+
+    @Override
+    public long sum(int[] a, int from, int to) {
+        int i = from;
+        long sum = 0;
+        int bound = from + INTS.loopBound(to - from);
+        if (i < bound) {
+            // widen each vector into two long vectors so the sum cannot overflow
+            LongVector acc = LongVector.zero(LONGS);
+            for (; i < bound; i += INTS.length()) {
+                IntVector v = IntVector.fromArray(INTS, a, i);
+                acc = acc.add((LongVector) v.convertShape(VectorOperators.I2L, LONGS, 0))
+                        .add((LongVector) v.convertShape(VectorOperators.I2L, LONGS, 1));
+            }
+            sum = acc.reduceLanes(VectorOperators.ADD);
+        }
+        for (; i < to; i++)
+            sum += a[i];
+        return sum;
+    }
+
+    @Override
+    public long sum(long[] a, int from, int to) {
+        int i = from;
+        long sum = 0;
+        int bound = from + LONGS.loopBound(to - from);
+        if (i < bound) {
+            LongVector acc = LongVector.zero(LONGS);
+            for (; i < bound; i += LONGS.length())
+                acc = acc.add(LongVector.fromArray(LONGS, a, i));
+            sum = acc.reduceLanes(VectorOperators.ADD);
+        }
+        for (; i < to; i++)
+            sum += a[i];
+        return sum;
+    }
+
+    @Override
+    public double sum(double[] a, int from, int to) {
+        int i = from;
+        double sum = 0;
+        int bound = from + DOUBLES.loopBound(to - from);
+        if (i < bound) {
+            DoubleVector acc = DoubleVector.zero(DOUBLES);
+            for (; i < bound; i += DOUBLES.length())
+                acc = acc.add(DoubleVector.fromArray(DOUBLES, a, i));
+            sum = acc.reduceLanes(VectorOperators.ADD);
+        }
+        for (; i < to; i++)
+            sum += a[i];
+        return sum;
+    }
+
+    // min / max
+
+    @Override
+    public int min(int[] a, int from, int to) {
+        int i = from;
+        int min = Integer.MAX_VALUE;
+        int bound = from + INTS.loopBound(to - from);
+        if (i < bound) {
+            IntVector acc = IntVector.broadcast(INTS, Integer.MAX_VALUE);
+            for (; i < bound; i += INTS.length())
+                acc = acc.min(IntVector.fromArray(INTS, a, i));
+            min = acc.reduceLanes(VectorOperators.MIN);
+        }
+        for (; i < to; i++)
+            min = Math.min(min, a[i]);
+        return min;
+    }
+
+    @Override
+    public long min(long[] a, int from, int to) {
+        int i = from;
+        long min = Long.MAX_VALUE;
+        int bound = from + LONGS.loopBound(to - from);
+        if (i < bound) {
+            LongVector acc = LongVector.broadcast(LONGS, Long.MAX_VALUE);
+            for (; i < bound; i += LONGS.length())
+                acc = acc.min(LongVector.fromArray(LONGS, a, i));
+            min = acc.reduceLanes(VectorOperators.MIN);
+        }
+        for (; i < to; i++)
+            min = Math.min(min, a[i]);
+        return min;
+    }
+
+    @Override
+    public double min(double[] a, int from, int to) {
+        int i = from;
+        double min = Double.POSITIVE_INFINITY;
+        int bound = from + DOUBLES.loopBound(to - from);
+        if (i < bound) {
+            DoubleVector acc = DoubleVector.broadcast(DOUBLES, Double.POSITIVE_INFINITY);
+            for (; i < bound; i += DOUBLES.length())
+                acc = acc.min(DoubleVector.fromArray(DOUBLES, a, i));
+            min = acc.reduceLanes(VectorOperators.MIN);
+        }
+        for (; i < to; i++)
+            min = Math.min(min, a[i]);
+        return min;
+    }
+
+    @Override
+    public int max(int[] a, int from, int to) {
+        int i = from;
+        int max = Integer.MIN_VALUE;
+        int bound = from + INTS.loopBound(to - from);
+        if (i < bound) {
+            IntVector acc = IntVector.broadcast(INTS, Integer.MIN_VALUE);
+            for (; i < bound; i += INTS.length())
+                acc = acc.max(IntVector.fromArray(INTS, a, i));
+            max = acc.reduceLanes(VectorOperators.MAX);
+        }
+        for (; i < to; i++)
+            max = Math.max(max, a[i]);
+        return max;
+    }
+
+    @Override
+    public long max(long[] a, int from, int to) {
+        int i = from;
+        long max = Long.MIN_VALUE;
+        int bound = from + LONGS.loopBound(to - from);
+        if (i < bound) {
+            LongVector acc = LongVector.broadcast(LONGS, Long.MIN_VALUE);
+            for (; i < bound; i += LONGS.length())
+                acc = acc.max(LongVector.fromArray(LONGS, a, i));
+            max = acc.reduceLanes(VectorOperators.MAX);
+        }
+        for (; i < to; i++)
+            max = Math.max(max, a[i]);
+        return max;
+    }
+
+    @Override
+    public double max(double[] a, int from, int to) {
+        int i = from;
+        double max = Double.NEGATIVE_INFINITY;
+        int bound = from + DOUBLES.loopBound(to - from);
+        if (i < bound) {
+            DoubleVector acc = DoubleVector.broadcast(DOUBLES, Double.NEGATIVE_INFINITY);
+            for (; i < bound; i += DOUBLES.length())
+                acc = acc.max(DoubleVector.fromArray(DOUBLES, a, i));
+            max = acc.reduceLanes(VectorOperators.MAX);
+        }
+        for (; i < to; i++)
+            max = Math.max(max, a[i]);
+        return max;
+    }
+
+    // equals
+
+    @Override
+    public boolean equals(int[] a, int[] b, int length) {
+        int i = 0;
+        for (int bound = INTS.loopBound(length); i < bound; i += INTS.length())
+            if (IntVector.fromArray(INTS, a, i).compare(VectorOperators.NE, IntVector.fromArray(INTS, b, i)).anyTrue())
+                return false;
+        for (; i < length; i++)
+            if (a[i] != b[i])
+                return false;
+        return true;
+    }
+
+    @Override
+    public boolean equals(long[] a, long[] b, int length) {
+        int i = 0;
+        for (int bound = LONGS.loopBound(length); i < bound; i += LONGS.length())
+            if (LongVector.fromArray(LONGS, a, i).compare(VectorOperators.NE, LongVector.fromArray(LONGS, b, i)).anyTrue())
+                return false;
+        for (; i < length; i++)
+            if (a[i] != b[i])
+                return false;
+        return true;
+    }
+
+    @Override
+    public boolean equals(double[] a, double[] b, int length) {
+        int i = 0;
+        for (int bound = DOUBLES.loopBound(length); i < bound; i += DOUBLES.length()) {
+            LongVector x = DoubleVector.fromArray(DOUBLES, a, i).viewAsIntegralLanes();
+            LongVector y = DoubleVector.fromArray(DOUBLES, b, i).viewAsIntegralLanes();
+            if (x.compare(VectorOperators.NE, y).anyTrue()) {
+                // raw bits differ; NaNs with different payloads are still equal
+                for (int j = i, end = i + DOUBLES.length(); j < end; j++)
+                    if (Double.doubleToLongBits(a[j]) != Double.doubleToLongBits(b[j]))
+                        return false;
+            }
+        }
+        for (; i < length; i++)
+            if (Double.doubleToLongBits(a[i]) != Double.doubleToLongBits(b[i]))
+                return false;
+        return true;
+    }
+
+    // fill
+
+    @Override
+    public void fill(int[] a, int from, int to, int value) {
+        int i = from;
+        IntVector v = IntVector.broadcast(INTS, value);
+        for (int bound = from + INTS.loopBound(to - from); i < bound; i += INTS.length())
+            v.intoArray(a, i);
+        for (; i < to; i++)
+            a[i] = value;
+    }
+
+    @Override
+    public void fill(long[] a, int from, int to, long value) {
+        int i = from;
+        LongVector v = LongVector.broadcast(LONGS, value);
+        for (int bound = from + LONGS.loopBound(to - from); i < bound; i += LONGS.length())
+            v.intoArray(a, i);
+        for (; i < to; i++)
+            a[i] = value;
+    }
+
+    @Override
+    public void fill(double[] a, int from, int to, double value) {
+        int i = from;
+        DoubleVector v = DoubleVector.broadcast(DOUBLES, value);
+        for (int bound = from + DOUBLES.loopBound(to - from); i < bound; i += DOUBLES.length())
+            v.intoArray(a, i);
+        for (; i < to; i++)
+            a[i] = value;
+    }
+}
@@ -0,0 +1,82 @@
+package org.example;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.example.CustomTestAnnotations.*;
+
+class AppendOnlyCustomListTest {
+
+    @Test
+    @ThisIsTest
+    void should_drain_in_append_order() {
+        AppendOnlyCustomList<Integer> log = new AppendOnlyCustomList<>(2, 4);
+        for (int i = 0; i < 10; i++) {
+            log.add(i);
+        }
+        CustomList<Integer> target = new CustomList<>();
+        Assertions.assertEquals(3, log.drain(3, target::add));
+        Assertions.assertEquals(7, log.drainTo(target));
+        Assertions.assertEquals(List.of(0, 1, 2, 3, 4, 5, 6, 7, 8, 9), target);
+        Assertions.assertEquals(0, log.pendingCount());
+        Assertions.assertEquals(10, log.drainedCount());
+    }
+
+    @Test
+    @ThisIsTest
+    void should_reject_when_window_is_full_and_reuse_after_drain() {
+        AppendOnlyCustomList<String> log = new AppendOnlyCustomList<>(1, 2);
+        Assertions.assertTrue(log.offerAll("a", "b", "c", "d"));
+        Assertions.assertFalse(log.offer("e"));
+        Assertions.assertThrows(IllegalStateException.class, () -> log.add("e"));
+        Assertions.assertThrows(NullPointerException.class, () -> log.offer(null));
+        List<String> drained = new ArrayList<>();
+        Assertions.assertEquals(2, log.drain(2, drained::add));
+        Assertions.assertTrue(log.offer("e"));
+        log.drain(Integer.MAX_VALUE, drained::add);
+        Assertions.assertEquals(List.of("a", "b", "c", "d", "e"), drained);
+    }
+
+    @Test
+    @ThisIsTest
+    void should_collect_everything_from_concurrent_producers() throws Exception {
+        AppendOnlyCustomList<long[]> log = new AppendOnlyCustomList<>(8, 1 << 12);
+        int producers = 4;
+        int perProducer = 50_000;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            long id = p;
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (long i = 0; i < perProducer; i++) {
+                    while (!log.offer(new long[]{id, i})) {
+                        Thread.onSpinWait();
+                    }
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        start.countDown();
+        CustomList<long[]> target = new CustomList<>();
+        while (target.size() < producers * perProducer) {
+            log.drainTo(target);
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        long[] next = new long[producers];
+        for (long[] e : target) {
+            Assertions.assertEquals(next[(int) e[0]]++, e[1]);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package org.example;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+
+import static org.example.CustomTestAnnotations.*;
+
+class BooleanCustomListTest {
+
+    private static BooleanCustomList random(Random random, int size, BitSet expected) {
+        BooleanCustomList list = new BooleanCustomList();
+        for (int i = 0; i < size; i++) {
+            boolean value = random.nextInt(3) == 0;
+            list.add(value);
+            expected.set(i, value);
+        }
+        return list;
+    }
+
+    private static void assertSameBits(BitSet expected, BooleanCustomList list) {
+        for (int i = 0; i < list.size(); i++) {
+            Assertions.assertEquals(expected.get(i), list.get(i), "index " + i);
+        }
+        Assertions.assertEquals(expected.get(0, list.size()).cardinality(), list.cardinality());
+    }
+
+    @Test
+    @ThisIsTest
+    void should_pack_values_into_words() {
+        BooleanCustomList list = new BooleanCustomList();
+        for (int i = 0; i < 1000; i++) {
+            list.add(i % 3 == 0);
+        }
+        Assertions.assertEquals(1000, list.size());
+        Assertions.assertEquals(334, list.cardinality());
+        Assertions.assertTrue(list.words.length * 64 < 1000 * 2);
+        Assertions.assertTrue(list.set(3, false));
+        Assertions.assertFalse(list.get(3));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> list.get(1000));
+        Assertions.assertEquals(List.of(false, false, false, false, false, true), list.boxed().subList(1, 7));
+        list.clear();
+        Assertions.assertEquals(0, list.cardinality());
+        Assertions.assertEquals("[]", list.toString());
+    }
+
+    @Test
+    @ThisIsTest
+    void should_search_and_set_ranges_like_bit_set() {
+        Random random = new Random(9);
+        BitSet expected = new BitSet();
+        BooleanCustomList list = random(random, 1_000, expected);
+        for (int step = 0; step < 200; step++) {
+            int from = random.nextInt(1_000), to = from + random.nextInt(1_000 - from + 1);
+            if (random.nextBoolean()) {
+                list.set(from, to);
+                expected.set(from, to);
+            } else {
+                list.clear(from, to);
+                expected.clear(from, to);
+            }
+            assertSameBits(expected, list);
+            int probe = random.nextInt(1_001);
+            int next = expected.nextSetBit(probe);
+            Assertions.assertEquals(next, list.nextSetBit(probe));
+            int clear = expected.nextClearBit(probe);
+            Assertions.assertEquals(clear < 1_000 ? clear : -1, list.nextClearBit(probe));
+        }
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> list.set(5, 1_001));
+    }
+
+    @Test
+    @ThisIsTest
+    void should_combine_lists_word_at_a_time() {
+        Random random = new Random(10);
+        BitSet a = new BitSet(), b = new BitSet(), c = new BitSet();
+        BooleanCustomList x = random(random, 700, a);
+        BooleanCustomList y = random(random, 300, b);
+        BooleanCustomList z = random(random, 1_000, c);
+
+        x.or(y);
+        a.or(b);
+        assertSameBits(a, x);
+        x.and(z);
+        a.and(c);
+        assertSameBits(a, x);
+        z.and(y);
+        c.and(b);
+        assertSameBits(c, z);
+        Assertions.assertEquals(-1, z.nextSetBit(300));
+        x.andNot(y);
+        a.andNot(b);
+        assertSameBits(a, x);
+        y.or(z);
+        Assertions.assertEquals(300, y.size());
+        Assertions.assertEquals(BooleanCustomList.ofSize(64), BooleanCustomList.ofSize(64));
+    }
+}
@@ -0,0 +1,80 @@
+package org.example;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.example.CustomTestAnnotations.*;
+
+class CircularCustomListTest {
+
+    @Test
+    @ThisIsTest
+    void should_add_and_remove_at_both_ends() {
+        CircularCustomList<Integer> list = new CircularCustomList<>();
+        for (int i = 0; i < 5; i++) {
+            list.add(i);
+            list.add(0, -i - 1);
+        }
+        Assertions.assertEquals(List.of(-5, -4, -3, -2, -1, 0, 1, 2, 3, 4), list);
+        Assertions.assertEquals(-5, list.remove(0));
+        Assertions.assertEquals(4, list.remove(list.size() - 1));
+        Assertions.assertEquals(List.of(-4, -3, -2, -1, 0, 1, 2, 3), list);
+    }
+
+    @Test
+    @ThisIsTest
+    void should_wrap_around_without_growing() {
+        CircularCustomList<Integer> list = new CircularCustomList<>(4);
+        for (int i = 0; i < 100; i++) {
+            list.add(i);
+            if (list.size() > 3) {
+                Assertions.assertEquals(i - 3, list.remove(0));
+            }
+        }
+        Assertions.assertEquals(4, list.elementData.length);
+        Assertions.assertEquals(List.of(97, 98, 99), list);
+    }
+
+    @Test
+    @ThisIsTest
+    void should_match_array_list_for_random_operations() {
+        Random random = new Random(42);
+        CircularCustomList<Integer> list = new CircularCustomList<>();
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            int op = random.nextInt(4);
+            if (op < 2 || expected.isEmpty()) {
+                int index = random.nextInt(expected.size() + 1);
+                list.add(index, i);
+                expected.add(index, i);
+            } else if (op == 2) {
+                int index = random.nextInt(expected.size());
+                Assertions.assertEquals(expected.remove(index), list.remove(index));
+            } else {
+                int index = random.nextInt(expected.size());
+                Assertions.assertEquals(expected.set(index, -i), list.set(index, -i));
+            }
+        }
+        Assertions.assertEquals(expected, list);
+        Assertions.assertArrayEquals(expected.toArray(), list.toArray());
+        Assertions.assertEquals(expected.indexOf(-4_999), list.indexOf(-4_999));
+    }
+
+    @Test
+    @ThisIsTest
+    void should_clear_and_trim() {
+        CircularCustomList<String> list = new CircularCustomList<>(List.of("a", "b", "c"));
+        list.remove(0);
+        list.add("d");
+        list.trimToSize();
+        Assertions.assertEquals(3, list.elementData.length);
+        Assertions.assertEquals(List.of("b", "c", "d"), list);
+        list.clear();
+        Assertions.assertTrue(list.isEmpty());
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> list.get(0));
+    }
+}
@@ -0,0 +1,73 @@
+package org.example;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.example.CustomTestAnnotations.*;
+
+class CompressedIntListTest {
+
+    private static void assertSameValues(int[] expected, CompressedIntList list) {
+        Assertions.assertEquals(expected.length, list.size());
+        for (int i = 0; i < expected.length; i++) {
+            Assertions.assertEquals(expected[i], list.get(i), "index " + i);
+        }
+        Assertions.assertArrayEquals(expected, list.toArray());
+        Assertions.assertArrayEquals(expected, list.stream().toArray());
+        PrimitiveIterator.OfInt it = list.iterator();
+        for (int value : expected) {
+            Assertions.assertEquals(value, it.nextInt());
+        }
+        Assertions.assertFalse(it.hasNext());
+    }
+
+    @Test
+    @ThisIsTest
+    void should_compress_sorted_ids_more_than_tenfold() {
+        Random random = new Random(1);
+        CustomList<Integer> ids = new CustomList<>();
+        int id = 1_000_000;
+        for (int i = 0; i < 100_000; i++) {
+            id += 1 + random.nextInt(50);
+            ids.add(id);
+        }
+        CompressedIntList list = CompressedIntList.copyOf(ids);
+        assertSameValues(ids.stream().mapToInt(Integer::intValue).toArray(), list);
+        Assertions.assertTrue(list.compressedBytes() * 10 < 20L * ids.size(),
+                "compressed to " + list.compressedBytes() + " bytes");
+    }
+
+    @Test
+    @ThisIsTest
+    void should_round_trip_clustered_and_extreme_values() {
+        Random random = new Random(2);
+        int[] clustered = IntStream.range(0, 1_000).map(i -> 5_000 + random.nextInt(16)).toArray();
+        assertSameValues(clustered, CompressedIntList.copyOf(IntStream.of(clustered)));
+
+        int[] extreme = IntStream.range(0, 777).map(i -> random.nextInt()).toArray();
+        extreme[3] = Integer.MIN_VALUE;
+        extreme[4] = Integer.MAX_VALUE;
+        assertSameValues(extreme, CompressedIntList.copyOf(IntCustomList.of(extreme)));
+
+        int[] constant = new int[300];
+        Arrays.fill(constant, -7);
+        assertSameValues(constant, CompressedIntList.builder().addAll(constant).build());
+    }
+
+    @Test
+    @ThisIsTest
+    void should_build_empty_and_single_use() {
+        CompressedIntList.Builder builder = CompressedIntList.builder();
+        CompressedIntList empty = builder.build();
+        Assertions.assertTrue(empty.isEmpty());
+        Assertions.assertEquals("[]", empty.toString());
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> empty.get(0));
+        Assertions.assertThrows(IllegalStateException.class, () -> builder.add(1));
+        Assertions.assertEquals("[3, 1, 2]", CompressedIntList.builder().addAll(3, 1, 2).build().toString());
+    }
+}
@@ -0,0 +1,143 @@
+package org.example;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.example.CustomTestAnnotations.*;
+
+class ConcurrentCustomListTest {
+
+    @Test
+    @ThisIsTest
+    void should_behave_like_a_list() {
+        ConcurrentCustomList<String> list = new ConcurrentCustomList<>(0);
+        list.addAll(List.of("a", "b", "d"));
+        list.add(2, "c");
+        Assertions.assertEquals(List.of("a", "b", "c", "d"), list);
+        Assertions.assertEquals(2, list.indexOf("c"));
+        Assertions.assertEquals("b", list.remove(1));
+        Assertions.assertTrue(list.remove("d"));
+        Assertions.assertEquals("a", list.set(0, "z"));
+        Assertions.assertEquals(List.of("z", "c"), list);
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> list.get(2));
+        list.clear();
+        Assertions.assertTrue(list.isEmpty());
+    }
+
+    @Test
+    @ThisIsTest
+    void should_keep_all_elements_under_concurrent_writes_and_reads() throws Exception {
+        ConcurrentCustomList<Integer> list = new ConcurrentCustomList<>();
+        int writers = 4;
+        int perWriter = 20_000;
+        ExecutorService executor = Executors.newFixedThreadPool(writers + 2);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int w = 0; w < writers; w++) {
+                int base = w * perWriter;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < perWriter; i++) {
+                        list.add(base + i);
+                    }
+                }));
+            }
+            for (int r = 0; r < 2; r++) {
+                futures.add(executor.submit(() -> {
+                    while (list.size() < writers * perWriter) {
+                        int s = list.size();
+                        if (s > 0) {
+                            Assertions.assertNotNull(list.get(s - 1));
+                        }
+                        list.indexOf(-1);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        Assertions.assertEquals(writers * perWriter, list.size());
+        Set<Integer> distinct = new HashSet<>(list);
+        Assertions.assertEquals(writers * perWriter, distinct.size());
+    }
+
+    @Test
+    @ThisIsTest
+    void should_run_bulk_operations_and_iterator_removal_under_the_lock() {
+        ConcurrentCustomList<Integer> list = new ConcurrentCustomList<>();
+        list.addAll(List.of(1, 2, 3, 4, 5, 6));
+        Assertions.assertTrue(list.addAll(1, List.of(10, 11)));
+        Assertions.assertEquals(List.of(1, 10, 11, 2, 3, 4, 5, 6), list);
+        Assertions.assertTrue(list.removeAll(Set.of(10, 11)));
+        Assertions.assertTrue(list.retainAll(Set.of(1, 2, 3, 4)));
+        Assertions.assertTrue(list.removeIf(i -> i % 2 == 0));
+        Assertions.assertFalse(list.removeIf(i -> i > 100));
+        Assertions.assertEquals(List.of(1, 3), list);
+
+        Iterator<Integer> it = list.iterator();
+        Integer first = it.next();
+        list.add(0, 0);
+        it.remove();
+        Assertions.assertEquals(List.of(0, 3), list);
+        Assertions.assertEquals(3, it.next());
+        Assertions.assertFalse(it.hasNext());
+        Assertions.assertEquals(1, first);
+    }
+
+    @Test
+    @ThisIsTest
+    void should_run_user_code_that_reads_the_list_without_deadlock() {
+        Assertions.assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+            ConcurrentCustomList<Object> list = new ConcurrentCustomList<>();
+            list.addAll(List.of(1, 2, 3));
+            Assertions.assertFalse(list.retainAll(list));
+            Assertions.assertFalse(list.removeAll(List.of()));
+            Assertions.assertTrue(list.removeIf(e -> list.indexOf(e) == 0));
+            Assertions.assertEquals(List.of(2, 3), list);
+
+            list.add(list);
+            Assertions.assertEquals(2, list.lastIndexOf(list));
+            Assertions.assertTrue(list.remove(list));
+            Assertions.assertEquals(List.of(2, 3), list);
+        });
+    }
+
+    @Test
+    @ThisIsTest
+    void should_not_fail_fast_in_list_iterator_spliterator_and_equals() {
+        ConcurrentCustomList<Integer> list = new ConcurrentCustomList<>();
+        list.addAll(List.of(1, 2, 3));
+        ListIterator<Integer> it = list.listIterator();
+        Assertions.assertEquals(1, it.next());
+        list.add(0, 0);
+        it.set(10);       // found where the insert moved it
+        it.add(11);       // at the cursor index
+        Assertions.assertEquals(List.of(0, 11, 10, 2, 3), list);
+        Assertions.assertEquals(11, it.previous());
+        Assertions.assertEquals(1, it.nextIndex());
+
+        List<Integer> seen = new ArrayList<>();
+        list.spliterator().forEachRemaining(e -> {
+            seen.add(e);
+            list.add(-1);
+        });
+        Assertions.assertEquals(List.of(0, 11, 10, 2, 3), seen);
+        Assertions.assertEquals(List.of(0, 11, 10, 2, 3, -1, -1, -1, -1, -1), list);
+        Assertions.assertEquals(new ArrayList<>(list), list);
+        Assertions.assertEquals(new ArrayList<>(list).hashCode(), list.hashCode());
+    }
+}
@@ -0,0 +1,76 @@
+package org.example;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.example.CustomTestAnnotations.*;
+
+class CustomListEventsTest {
+
+    @TempDir
+    Path tempDir;
+
+    private List<RecordedEvent> record(Runnable action) throws IOException {
+        Path file = tempDir.resolve("events.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(CustomListEvents.Resize.class);
+            recording.enable(CustomListEvents.Copy.class);
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+        }
+        return RecordingFile.readAllEvents(file).stream()
+                .filter(e -> e.getEventType().getName().startsWith("org.example.CustomList"))
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    @ThisIsTest
+    void should_record_resizes_with_stack_trace() throws IOException {
+        List<RecordedEvent> events = record(() -> {
+            CustomList<Integer> list = new CustomList<>();
+            for (int i = 0; i < 11; i++) {
+                list.add(i);
+            }
+            list.trimToSize();
+        });
+        List<String> resizes = events.stream()
+                .map(e -> e.getString("operation") + ":" + e.getInt("oldCapacity") + "->" + e.getInt("newCapacity"))
+                .collect(Collectors.toList());
+        Assertions.assertEquals(List.of("grow:0->10", "grow:10->15", "trimToSize:15->11"), resizes);
+        RecordedEvent trim = events.get(2);
+        Assertions.assertTrue(trim.getLong("bytesCopied") >= 11 * 4L);
+        Assertions.assertTrue(trim.getStackTrace().getFrames().stream()
+                .anyMatch(f -> f.getMethod().getName().equals("trimToSize")));
+    }
+
+    @Test
+    @ThisIsTest
+    void should_record_copies_above_threshold() throws IOException {
+        int threshold = CustomListEvents.COPY_THRESHOLD;
+        List<RecordedEvent> events = record(() -> {
+            CustomList<Integer> list = new CustomList<>(2 * threshold);
+            for (int i = 0; i < threshold + 50; i++) {
+                list.add(i);
+            }
+            list.add(0, -1);                // shifts threshold + 50
+            list.remove(threshold + 40);    // shifts 10
+            list.remove(0);                 // shifts threshold + 49
+            list.addAll(0, List.of(1, 2));
+        }).stream().filter(e -> e.getEventType().getName().endsWith("Copy")).collect(Collectors.toList());
+        Assertions.assertEquals(List.of("add", "remove", "addAll"),
+                events.stream().map(e -> e.getString("operation")).collect(Collectors.toList()));
+        Assertions.assertEquals(2 * threshold, events.get(0).getInt("oldCapacity"));
+        Assertions.assertEquals(2 * threshold, events.get(0).getInt("newCapacity"));
+    }
+}
@@ -0,0 +1,97 @@
+package org.example;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.example.CustomTestAnnotations.*;
+
+class CustomListExporterTest {
+
+    @Test
+    @ThisIsTest
+    void should_export_text_like_to_string() throws IOException {
+        CustomList<Object> list = new CustomList<>(Arrays.asList("a", null, 3));
+        list.add(list);
+        StringBuilder sb = new StringBuilder();
+        new CustomListExporter().export(list, sb);
+        Assertions.assertEquals(list.toString(), sb.toString());
+
+        StringBuilder truncated = new StringBuilder();
+        new CustomListExporter().setMaxElements(2).export(list, truncated);
+        Assertions.assertEquals("[a, null, ... (2 more)]", truncated.toString());
+        StringBuilder none = new StringBuilder();
+        new CustomListExporter().setMaxElements(0).export(list, none);
+        Assertions.assertEquals("[... (4 more)]", none.toString());
+    }
+
+    @Test
+    @ThisIsTest
+    void should_export_csv_and_json() throws IOException {
+        CustomList<Object> list = new CustomList<>(Arrays.asList("plain", "a,b", "say \"hi\"", null, 1.5, Double.NaN, true));
+        StringWriter csv = new StringWriter();
+        new CustomListExporter().setFormat(CustomListExporter.Format.CSV).export(list, csv);
+        Assertions.assertEquals("plain\r\n\"a,b\"\r\n\"say \"\"hi\"\"\"\r\n\r\n1.5\r\nNaN\r\ntrue\r\n", csv.toString());
+
+        StringWriter json = new StringWriter();
+        new CustomListExporter().setFormat(CustomListExporter.Format.JSON).export(list, json);
+        Assertions.assertEquals("[\"plain\",\"a,b\",\"say \\\"hi\\\"\",null,1.5,\"NaN\",true]", json.toString());
+
+        StringWriter limited = new StringWriter();
+        new CustomListExporter().setFormat(CustomListExporter.Format.JSON).setMaxElements(1).export(list, limited);
+        Assertions.assertEquals("[\"plain\"]", limited.toString());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new CustomListExporter().setChunkSize(1));
+        Assertions.assertThrows(NullPointerException.class, () -> new CustomListExporter().setFormat(null));
+    }
+
+    @Test
+    @ThisIsTest
+    void should_write_in_bounded_chunks() throws IOException {
+        CustomList<Integer> list = IntStream.range(0, 10_000).boxed().collect(CustomList.toCustomList());
+        List<Integer> chunkLengths = new ArrayList<>();
+        StringBuilder out = new StringBuilder();
+        Writer writer = new Writer() {
+            @Override
+            public void write(char[] cbuf, int off, int len) {
+                chunkLengths.add(len);
+                out.append(cbuf, off, len);
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        new CustomListExporter().setChunkSize(64).export(list, writer);
+        Assertions.assertEquals(list.toString(), out.toString());
+        Assertions.assertTrue(chunkLengths.size() > 1);
+        Assertions.assertTrue(chunkLengths.stream().allMatch(len -> len <= 64));
+    }
+
+    @Test
+    @ThisIsTest
+    void should_encode_to_channel() throws IOException {
+        CustomList<String> list = new CustomList<>(List.of("grüß", "😀", "x"));
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        new CustomListExporter().setChunkSize(2).export(list, Channels.newChannel(bytes));
+        Assertions.assertEquals(list.toString(), bytes.toString(StandardCharsets.UTF_8));
+
+        ByteArrayOutputStream latin = new ByteArrayOutputStream();
+        new CustomListExporter().setCharset(StandardCharsets.ISO_8859_1).setFormat(CustomListExporter.Format.CSV)
+                .export(List.of("grüß"), Channels.newChannel(latin));
+        Assertions.assertArrayEquals("grüß\r\n".getBytes(StandardCharsets.ISO_8859_1), latin.toByteArray());
+    }
+}
@@ -0,0 +1,92 @@
+package org.example;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+import static org.example.CustomTestAnnotations.*;
+
+class CustomListMetricsTest {
+
+    private static final String NAME = "metrics-test";
+
+    @AfterEach
+    @ThisIsDismantleAfterEach
+    void unregister() {
+        CustomListMetrics.unregister(NAME);
+    }
+
+    @Test
+    @ThisIsTest
+    void should_count_operations() {
+        CustomList<Integer> list = new CustomList<>();
+        list.enableMetrics(NAME);
+        for (int i = 0; i < 20; i++) {
+            list.add(i);
+        }
+        list.add(0, -1);                        // shifts 20
+        list.addAll(List.of(100, 101));
+        list.remove(0);                         // shifts 22
+        list.removeIf(e -> e >= 100);           // removes 2, shifts 0
+        Assertions.assertEquals(5, list.indexOf(5));
+        Assertions.assertEquals(-1, list.indexOf(42));
+
+        CustomListMetrics metrics = CustomListMetrics.forName(NAME);
+        Assertions.assertEquals(23, metrics.getAdds());
+        Assertions.assertEquals(3, metrics.getRemoves());
+        Assertions.assertEquals(4, metrics.getGrows());
+        Assertions.assertEquals(42, metrics.getElementsShifted());
+        Assertions.assertEquals(2, metrics.getScans());
+        Assertions.assertEquals(26, metrics.getElementsScanned());
+        Assertions.assertEquals(20, metrics.getScanLengthMax());
+        Assertions.assertEquals(22, metrics.getShiftLengthMax());
+        Assertions.assertTrue(metrics.getGrowNanosMax() >= metrics.getGrowNanosP50());
+
+        list.disableMetrics();
+        list.add(1);
+        Assertions.assertEquals(23, metrics.getAdds());
+        metrics.reset();
+        Assertions.assertEquals(0, metrics.getScans());
+    }
+
+    @Test
+    @ThisIsTest
+    void should_share_metrics_by_name_over_jmx() throws JMException {
+        CustomList<String> a = new CustomList<>();
+        CustomList<String> b = new CustomList<>();
+        a.enableMetrics(NAME);
+        b.enableMetrics(NAME);
+        a.add("x");
+        b.add("y");
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName objectName = CustomListMetrics.forName(NAME).getObjectName();
+        Assertions.assertEquals(2L, server.getAttribute(objectName, "Adds"));
+        Assertions.assertEquals(NAME, server.getAttribute(objectName, "Name"));
+        CustomListMetrics.unregister(NAME);
+        Assertions.assertFalse(server.isRegistered(objectName));
+    }
+
+    @Test
+    @ThisIsTest
+    void should_bucket_values_log_linearly() {
+        CustomListMetrics.LogHistogram histogram = new CustomListMetrics.LogHistogram();
+        for (int i = 1; i <= 100; i++) {
+            histogram.record(i);
+        }
+        Assertions.assertEquals(100, histogram.count());
+        long p50 = histogram.percentile(50);
+        Assertions.assertTrue(p50 >= 50 && p50 <= 63, "p50 " + p50);
+        Assertions.assertEquals(100, histogram.percentile(100));
+        for (long v : new long[]{0, 3, 4, 7, 8, 1000, Long.MAX_VALUE}) {
+            int bucket = CustomListMetrics.LogHistogram.bucketOf(v);
+            Assertions.assertTrue(CustomListMetrics.LogHistogram.highestValueIn(bucket) >= v);
+            Assertions.assertTrue(bucket == 0 || CustomListMetrics.LogHistogram.highestValueIn(bucket - 1) < v);
+        }
+    }
+}
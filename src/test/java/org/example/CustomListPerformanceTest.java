@@ -134,7 +134,8 @@ public class CustomListPerformanceTest {
         Result customListAddRemoveResult = testAddRemove("CustomList", new CustomList<>(), ADD_REMOVE_SIZE);
         Result[] addRemoveResults = new Result[]{
                 testAddRemove("LinkedList", new LinkedList<>(), ADD_REMOVE_SIZE),
-                testAddRemove("ArrayList", new ArrayList<>(), ADD_REMOVE_SIZE)
+                testAddRemove("ArrayList", new ArrayList<>(), ADD_REMOVE_SIZE),
+                testAddRemove("CircularCustomList", new CircularCustomList<>(), ADD_REMOVE_SIZE)
         };
         printResults(addRemoveResults, customListAddRemoveResult);
     }
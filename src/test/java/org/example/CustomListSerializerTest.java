@@ -0,0 +1,158 @@
+package org.example;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.example.CustomTestAnnotations.*;
+
+class CustomListSerializerTest {
+
+    @Test
+    @ThisIsTest
+    void should_round_trip_strings_with_nulls() throws IOException {
+        CustomList<String> list = new CustomList<>();
+        list.add("plain");
+        list.add(null);
+        list.add("");
+        list.add("ünïcødé 😀");
+        list.add("x".repeat(CustomListSerializer.BUFFER_SIZE * 2));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        CustomListSerializer.write(list, ElementCodec.UTF8, Channels.newChannel(out));
+        CustomList<String> copy = CustomListSerializer.read(
+                Channels.newChannel(new ByteArrayInputStream(out.toByteArray())), ElementCodec.UTF8);
+
+        Assertions.assertEquals(list, copy);
+        Assertions.assertEquals(list.size(), copy.elementData.length);
+    }
+
+    @Test
+    @ThisIsTest
+    void should_round_trip_fixed_layout_elements() throws IOException {
+        CustomList<Long> list = new CustomList<>(List.of(1L, -2L, Long.MAX_VALUE));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        CustomListSerializer.write(list, ElementCodec.of(ElementLayout.LONG), Channels.newChannel(out));
+        CustomList<Long> copy = CustomListSerializer.read(
+                Channels.newChannel(new ByteArrayInputStream(out.toByteArray())), ElementCodec.of(ElementLayout.LONG));
+        Assertions.assertEquals(list, copy);
+    }
+
+    @Test
+    @ThisIsTest
+    void should_block_copy_primitive_lists() throws IOException {
+        IntCustomList ints = new IntCustomList();
+        for (int i = 0; i < 100_000; i++) {
+            ints.add(i * 7);
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        CustomListSerializer.writeInts(ints, Channels.newChannel(out));
+        Assertions.assertEquals(10 + 100_000 * Integer.BYTES, out.size());
+        IntCustomList intCopy = CustomListSerializer.readInts(
+                Channels.newChannel(new ByteArrayInputStream(out.toByteArray())));
+        Assertions.assertEquals(ints, intCopy);
+
+        LongCustomList longs = LongCustomList.of(Long.MIN_VALUE, 0L, Long.MAX_VALUE);
+        out.reset();
+        CustomListSerializer.writeLongs(longs, Channels.newChannel(out));
+        Assertions.assertEquals(longs, CustomListSerializer.readLongs(
+                Channels.newChannel(new ByteArrayInputStream(out.toByteArray()))));
+
+        DoubleCustomList doubles = DoubleCustomList.of(Double.NaN, -0.0, 1e300);
+        out.reset();
+        CustomListSerializer.writeDoubles(doubles, Channels.newChannel(out));
+        Assertions.assertEquals(doubles, CustomListSerializer.readDoubles(
+                Channels.newChannel(new ByteArrayInputStream(out.toByteArray()))));
+    }
+
+    @Test
+    @ThisIsTest
+    void should_reject_wrong_payload_and_truncated_stream() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        CustomListSerializer.writeInts(IntCustomList.of(1, 2, 3), Channels.newChannel(out));
+        byte[] bytes = out.toByteArray();
+        Assertions.assertThrows(IOException.class, () -> CustomListSerializer.readLongs(
+                Channels.newChannel(new ByteArrayInputStream(bytes))));
+        Assertions.assertThrows(IOException.class, () -> CustomListSerializer.readInts(
+                Channels.newChannel(new ByteArrayInputStream(Arrays.copyOf(bytes, bytes.length - 1)))));
+    }
+
+    @Test
+    @ThisIsTest
+    void should_reject_element_count_beyond_input(@TempDir Path tempDir) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        CustomListSerializer.writeLongs(LongCustomList.of(1L, 2L, 3L), Channels.newChannel(out));
+        byte[] bytes = out.toByteArray();
+        // the count follows the magic number, version and kind
+        ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).putInt(6, CustomList.SOFT_MAX_ARRAY_LENGTH);
+        Assertions.assertThrows(EOFException.class, () -> CustomListSerializer.readLongs(
+                Channels.newChannel(new ByteArrayInputStream(bytes))));
+        Path file = Files.write(tempDir.resolve("forged.clsb"), bytes);
+        try (FileChannel channel = FileChannel.open(file)) {
+            EOFException e = Assertions.assertThrows(EOFException.class, () -> CustomListSerializer.readLongs(channel));
+            Assertions.assertTrue(e.getMessage().contains("exceeds"));
+        }
+        ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).putInt(6, Integer.MAX_VALUE);
+        Assertions.assertThrows(IOException.class, () -> CustomListSerializer.readLongs(
+                Channels.newChannel(new ByteArrayInputStream(bytes))));
+    }
+
+    @Test
+    @ThisIsTest
+    void should_grow_array_while_reading_unsized_channel() throws IOException {
+        CustomList<String> strings = new CustomList<>();
+        IntCustomList ints = new IntCustomList();
+        for (int i = 0; i < 100_000; i++) {
+            strings.add(i % 7 == 0 ? null : "s" + i);
+            ints.add(i);
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        CustomListSerializer.write(strings, ElementCodec.UTF8, Channels.newChannel(out));
+        Assertions.assertEquals(strings, CustomListSerializer.read(
+                Channels.newChannel(new ByteArrayInputStream(out.toByteArray())), ElementCodec.UTF8));
+        out.reset();
+        CustomListSerializer.writeInts(ints, Channels.newChannel(out));
+        Assertions.assertEquals(ints, CustomListSerializer.readInts(
+                Channels.newChannel(new ByteArrayInputStream(out.toByteArray()))));
+    }
+
+    @Test
+    @ThisIsTest
+    void should_reject_malformed_frames(@TempDir Path tempDir) throws IOException {
+        CustomList<String> list = new CustomList<>();
+        list.add("hi");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        CustomListSerializer.write(list, ElementCodec.UTF8, Channels.newChannel(out));
+        byte[] bytes = out.toByteArray();
+        // the frame follows the ten-byte header
+        byte[] negative = new byte[bytes.length + 4];
+        System.arraycopy(bytes, 0, negative, 0, 10);
+        System.arraycopy(new byte[]{(byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x0F}, 0, negative, 10, 5);
+        IOException e = Assertions.assertThrows(IOException.class, () -> CustomListSerializer.read(
+                Channels.newChannel(new ByteArrayInputStream(negative)), ElementCodec.UTF8));
+        Assertions.assertTrue(e.getMessage().startsWith("Malformed"));
+
+        byte[] huge = negative.clone();
+        huge[14] = 0x07; // 2^31 - 1
+        Assertions.assertThrows(EOFException.class, () -> CustomListSerializer.read(
+                Channels.newChannel(new ByteArrayInputStream(huge)), ElementCodec.UTF8));
+        Path file = Files.write(tempDir.resolve("huge.clsb"), huge);
+        try (FileChannel channel = FileChannel.open(file)) {
+            e = Assertions.assertThrows(IOException.class, () -> CustomListSerializer.read(channel, ElementCodec.UTF8));
+            Assertions.assertTrue(e.getMessage().startsWith("Malformed"));
+        }
+    }
+}
@@ -8,7 +8,14 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static org.example.CustomTestAnnotations.*;
@@ -193,4 +200,364 @@ class CustomListTest {
         Assertions.assertNotEquals(originalCapacity, newCapacity);
         Assertions.assertEquals(10, newCapacity);
     }
+
+    @Test
+    @ThisIsTest
+    void should_split_into_sized_halves() {
+        CustomList<Integer> list = new CustomList<>();
+        for (int i = 0; i < 1000; i++) {
+            list.add(i);
+        }
+        Spliterator<Integer> right = list.spliterator();
+        Assertions.assertTrue(right.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED));
+        Spliterator<Integer> left = right.trySplit();
+        Assertions.assertEquals(500, left.getExactSizeIfKnown());
+        Assertions.assertEquals(500, right.getExactSizeIfKnown());
+        left.tryAdvance(e -> Assertions.assertEquals(0, e));
+        right.tryAdvance(e -> Assertions.assertEquals(500, e));
+    }
+
+    @Test
+    @ThisIsTest
+    void should_stream_in_parallel() {
+        CustomList<Integer> list = new CustomList<>();
+        for (int i = 0; i < 100_000; i++) {
+            list.add(i);
+        }
+        long sum = list.parallelStream().mapToLong(Integer::longValue).sum();
+        Assertions.assertEquals(99_999L * 100_000L / 2, sum);
+        Assertions.assertEquals(list.stream().filter(e -> e % 3 == 0).collect(Collectors.toList()),
+                list.parallelStream().filter(e -> e % 3 == 0).collect(Collectors.toList()));
+    }
+
+    @ParameterizedTest
+    @MethodSource("generateStringLists")
+    void should_remove_all_elements_of_collection(List list) {
+        Assertions.assertTrue(list.removeAll(List.of("b", "d", "z")));
+        Assertions.assertEquals(List.of("a", "c", "e"), list);
+        Assertions.assertFalse(list.removeAll(List.of("z")));
+    }
+
+    @ParameterizedTest
+    @MethodSource("generateStringLists")
+    void should_retain_all_elements_of_collection(List list) {
+        Assertions.assertTrue(list.retainAll(Set.of("b", "d", "z")));
+        Assertions.assertEquals(List.of("b", "d"), list);
+        Assertions.assertFalse(list.retainAll(List.of("b", "d")));
+    }
+
+    @Test
+    @ThisIsTest
+    void should_bulk_remove_with_large_collection() {
+        CustomList<Integer> list = new CustomList<>();
+        List<Integer> evens = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            list.add(i);
+            if (i % 2 == 0) {
+                evens.add(i);
+            }
+        }
+        Assertions.assertTrue(list.removeAll(evens));
+        Assertions.assertEquals(5_000, list.size());
+        Assertions.assertEquals(1, list.get(0));
+        Assertions.assertEquals(9_999, list.get(4_999));
+        Assertions.assertNull(list.elementData[5_000]);
+    }
+
+    @Test
+    @ThisIsTest
+    void should_remove_if_matching() {
+        CustomList<Integer> list = new CustomList<>();
+        for (int i = 0; i < 10; i++) {
+            list.add(i);
+        }
+        Assertions.assertTrue(list.removeIf(e -> e % 3 == 0));
+        Assertions.assertEquals(List.of(1, 2, 4, 5, 7, 8), list);
+        Assertions.assertFalse(list.removeIf(e -> e > 100));
+    }
+
+    @ParameterizedTest
+    @MethodSource("generateStringLists")
+    void should_view_sub_list(List list) {
+        List subList = list.subList(1, 4);
+        Assertions.assertEquals(List.of("b", "c", "d"), subList);
+        Assertions.assertEquals(List.of("b", "c", "d").hashCode(), subList.hashCode());
+        Assertions.assertEquals(1, subList.indexOf("c"));
+        Assertions.assertEquals(-1, subList.indexOf("e"));
+        subList.set(0, "q");
+        Assertions.assertEquals("q", list.get(1));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> subList.get(3));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> list.subList(3, 2));
+    }
+
+    @ParameterizedTest
+    @MethodSource("generateStringLists")
+    void should_modify_through_nested_sub_lists(List list) {
+        List outer = list.subList(1, 5);
+        List inner = outer.subList(1, 3);
+        Assertions.assertEquals(List.of("c", "d"), inner);
+        inner.add("x");
+        Assertions.assertEquals(List.of("b", "c", "d", "x", "e"), outer);
+        inner.remove("c");
+        Assertions.assertEquals(List.of("d", "x"), inner);
+        inner.clear();
+        Assertions.assertEquals(List.of("b", "e"), outer);
+        Assertions.assertEquals(List.of("a", "b", "e"), list);
+    }
+
+    @Test
+    @ThisIsTest
+    void should_share_element_data_with_sub_list() {
+        CustomList<Integer> list = new CustomList<>();
+        for (int i = 0; i < 10; i++) {
+            list.add(i);
+        }
+        List<Integer> window = list.subList(2, 8);
+        window.replaceAll(e -> e * 10);
+        Assertions.assertEquals(List.of(0, 1, 20, 30, 40, 50, 60, 70, 8, 9), list);
+        Assertions.assertTrue(window.removeIf(e -> e % 20 == 0));
+        Assertions.assertEquals(List.of(30, 50, 70), window);
+        Assertions.assertEquals(List.of(0, 1, 30, 50, 70, 8, 9), list);
+        Assertions.assertEquals(3, window.spliterator().getExactSizeIfKnown());
+        Assertions.assertArrayEquals(new Object[]{30, 50, 70}, window.toArray());
+    }
+
+    @Test
+    @ThisIsTest
+    void should_sort_in_place() {
+        CustomList<String> list = new CustomList<>(List.of("d", "a", "c", "b"));
+        Object[] elementData = list.elementData;
+        list.sort(null);
+        Assertions.assertEquals(List.of("a", "b", "c", "d"), list);
+        Assertions.assertSame(elementData, list.elementData);
+        list.sort(Comparator.reverseOrder());
+        Assertions.assertEquals(List.of("d", "c", "b", "a"), list);
+    }
+
+    @Test
+    @ThisIsTest
+    void should_parallel_sort_large_list() {
+        Random random = new Random(7);
+        CustomList<Integer> list = new CustomList<>();
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            int value = random.nextInt();
+            list.add(value);
+            expected.add(value);
+        }
+        expected.sort(null);
+        list.parallelSort(null);
+        Assertions.assertEquals(expected, list);
+    }
+
+    @Test
+    @ThisIsTest
+    void should_sort_by_primitive_keys_stably() {
+        CustomList<String> list = new CustomList<>(List.of("ccc", "a", "bb", "b", "aaa", "c"));
+        list.sortByInt(String::length);
+        Assertions.assertEquals(List.of("a", "b", "c", "bb", "ccc", "aaa"), list);
+        list.sortByLong(e -> -(long) e.charAt(0));
+        Assertions.assertEquals(List.of("c", "ccc", "b", "bb", "a", "aaa"), list);
+
+        CustomList<Double> doubles = new CustomList<>(List.of(2.5, Double.NaN, -0.0, -3.0, 0.0, Double.NEGATIVE_INFINITY));
+        doubles.sortByDouble(Double::doubleValue);
+        Assertions.assertEquals(List.of(Double.NEGATIVE_INFINITY, -3.0, -0.0, 0.0, 2.5, Double.NaN), doubles);
+    }
+
+    @Test
+    @ThisIsTest
+    void should_answer_lookups_from_index() {
+        CustomList<String> list = new CustomList<>(List.of("a", "b", "a", "c"));
+        list.setIndexed(true);
+        Assertions.assertTrue(list.isIndexed());
+        Assertions.assertEquals(0, list.indexOf("a"));
+        Assertions.assertEquals(2, list.lastIndexOf("a"));
+        Assertions.assertTrue(list.containsAll(List.of("c", "b")));
+        list.add(null);
+        list.set(0, "d");
+        Assertions.assertEquals(2, list.indexOf("a"));
+        Assertions.assertEquals(0, list.indexOf("d"));
+        Assertions.assertEquals(4, list.indexOf(null));
+        Assertions.assertTrue(list.remove("b"));
+        Assertions.assertEquals(1, list.indexOf("a"));
+        Assertions.assertFalse(list.contains("b"));
+        list.setIndexed(false);
+        Assertions.assertFalse(list.isIndexed());
+        Assertions.assertEquals(2, list.indexOf("c"));
+    }
+
+    @Test
+    @ThisIsTest
+    void should_not_rebuild_index_after_single_middle_changes() {
+        CustomList<Integer> list = new CustomList<>();
+        for (int i = 0; i < 10_000; i++) {
+            list.add(i);
+        }
+        list.setIndexed(true);
+        Assertions.assertEquals(5_000, list.indexOf(5_000));
+        Assertions.assertEquals(1, list.indexRebuilds());
+
+        Assertions.assertEquals(100, list.remove(100));
+        Assertions.assertEquals(4_999, list.indexOf(5_000));
+        Assertions.assertEquals(-1, list.indexOf(100));
+        list.add(10, -1);
+        Assertions.assertEquals(10, list.indexOf(-1));
+        Assertions.assertEquals(5_000, list.indexOf(5_000));
+        Assertions.assertTrue(list.remove((Integer) 7_000));
+        Assertions.assertEquals(7_000, list.lastIndexOf(7_001));
+        Assertions.assertEquals(1, list.indexRebuilds());
+    }
+
+    @Test
+    @ThisIsTest
+    void should_keep_index_in_sync_with_modifications() {
+        Random random = new Random(11);
+        CustomList<Integer> list = new CustomList<>();
+        list.setIndexed(true);
+        List<Integer> expected = new ArrayList<>();
+        for (int step = 0; step < 5_000; step++) {
+            Integer value = random.nextInt(20) == 0 ? null : random.nextInt(10);
+            int op = random.nextInt(10);
+            if (op < 4 || expected.isEmpty()) {
+                list.add(value);
+                expected.add(value);
+            } else if (op == 4) {
+                int i = random.nextInt(expected.size() + 1);
+                list.add(i, value);
+                expected.add(i, value);
+            } else if (op == 5) {
+                int i = random.nextInt(expected.size());
+                Assertions.assertEquals(expected.set(i, value), list.set(i, value));
+            } else if (op == 6) {
+                int i = random.nextBoolean() ? expected.size() - 1 : random.nextInt(expected.size());
+                Assertions.assertEquals(expected.remove(i), list.remove(i));
+            } else if (op == 7) {
+                Assertions.assertEquals(expected.remove(value), list.remove(value));
+            } else if (op == 8) {
+                list.subList(0, expected.size() / 2).set(0, value);
+                expected.subList(0, expected.size() / 2).set(0, value);
+            } else if (random.nextInt(20) == 0) {
+                list.removeIf(e -> e != null && e % 3 == 0);
+                expected.removeIf(e -> e != null && e % 3 == 0);
+            } else if (random.nextInt(20) == 0) {
+                list.sort(Comparator.nullsFirst(Comparator.naturalOrder()));
+                expected.sort(Comparator.nullsFirst(Comparator.naturalOrder()));
+            }
+            for (Integer probe = 0; probe < 10; probe++) {
+                Assertions.assertEquals(expected.indexOf(probe), list.indexOf(probe));
+                Assertions.assertEquals(expected.lastIndexOf(probe), list.lastIndexOf(probe));
+            }
+            Assertions.assertEquals(expected.indexOf(null), list.indexOf(null));
+        }
+        Assertions.assertEquals(expected, list);
+        list.clear();
+        Assertions.assertEquals(-1, list.indexOf(0));
+        list.add(3);
+        Assertions.assertEquals(0, list.indexOf(3));
+    }
+
+    @Test
+    @ThisIsTest
+    void should_reuse_backing_array_of_released_pooled_list() {
+        CustomList<String> first = CustomList.pooled();
+        first.addAll(List.of("a", "b", "c"));
+        Object[] elementData = first.elementData;
+        Assertions.assertEquals(16, elementData.length);
+        first.release();
+        Assertions.assertTrue(first.isEmpty());
+        Assertions.assertNull(elementData[0]);
+
+        CustomList<String> second = CustomList.pooled();
+        Assertions.assertSame(elementData, second.elementData);
+        second.add("x");
+        Assertions.assertEquals(List.of("x"), second);
+        second.release();
+        first.add("reused");
+        Assertions.assertEquals(List.of("reused"), first);
+        Assertions.assertSame(elementData, first.elementData);
+    }
+
+    @Test
+    @ThisIsTest
+    void should_grow_pooled_list_into_pooled_arrays() {
+        CustomList<Integer> list = CustomList.pooled();
+        Object[] small = list.elementData;
+        for (int i = 0; i < 100; i++) {
+            list.add(i);
+        }
+        Assertions.assertEquals(128, list.elementData.length);
+        Assertions.assertNull(small[0]);
+        Assertions.assertEquals(99, list.get(99));
+        Assertions.assertSame(small, CustomList.pooled().elementData);
+        list.release();
+        CustomList<Integer> large = CustomList.pooled(100);
+        Assertions.assertEquals(128, large.elementData.length);
+        Assertions.assertEquals(16, CustomList.pooled(0).elementData.length);
+    }
+
+    @Test
+    @ThisIsTest
+    void should_bound_memory_retained_by_array_pool() {
+        Assertions.assertEquals(229_248L + 4_064L, ObjectArrayPool.maxRetainedElements());
+        CustomList<Integer> huge = CustomList.pooled(1 << 17);
+        Object[] elementData = huge.elementData;
+        huge.release();
+        Assertions.assertNotSame(elementData, CustomList.pooled(1 << 17).elementData);
+    }
+
+    @Test
+    @ThisIsTest
+    void should_collect_streams_into_custom_list() {
+        List<Integer> expected = IntStream.range(0, 100_000).boxed().collect(Collectors.toList());
+        CustomList<Integer> sequential = expected.stream().collect(CustomList.toCustomList());
+        CustomList<Integer> parallel = expected.parallelStream().collect(CustomList.toCustomList());
+        Assertions.assertEquals(expected, sequential);
+        Assertions.assertEquals(expected, parallel);
+        Assertions.assertEquals(expected.size(), parallel.elementData.length);
+        Assertions.assertEquals(List.of(), Stream.empty().collect(CustomList.toCustomList()));
+
+        CustomList<Integer> presized = expected.stream().collect(CustomList.toCustomList(expected.size()));
+        Assertions.assertEquals(expected, presized);
+        Assertions.assertEquals(expected.size(), presized.elementData.length);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> CustomList.toCustomList(-1));
+    }
+
+    @Test
+    @ThisIsTest
+    void should_presize_only_first_container_of_parallel_collect() {
+        int n = 200_000;
+        List<Integer> expected = IntStream.range(0, n).boxed().collect(Collectors.toList());
+        Collector<Integer, ?, CustomList<Integer>> collector = CustomList.toCustomList(n);
+        CustomList<Integer> parallel = expected.parallelStream().collect(collector);
+        Assertions.assertEquals(expected, parallel);
+        Assertions.assertEquals(n, parallel.elementData.length);
+
+        // a reused collector presizes every stream it collects
+        Collector<Integer, ?, CustomList<Integer>> reused = CustomList.toCustomList(1000);
+        for (int round = 0; round < 3; round++) {
+            CustomList<Integer> small = IntStream.range(0, 10).boxed().collect(reused);
+            Assertions.assertEquals(1000, small.elementData.length);
+        }
+
+        CustomList<Integer> list = new CustomList<>(List.of(-1));
+        list.addAll(expected.parallelStream());
+        Assertions.assertEquals(n + 1, list.size());
+        Assertions.assertEquals(n - 1, list.get(n));
+    }
+
+    @Test
+    @ThisIsTest
+    void should_add_all_from_stream_iterator_and_spliterator() {
+        CustomList<Integer> list = new CustomList<>(List.of(-1));
+        Assertions.assertTrue(list.addAll(IntStream.range(0, 1000).boxed()));
+        Assertions.assertEquals(1001, list.elementData.length);
+        Assertions.assertTrue(list.addAll(IntStream.range(1000, 2000).boxed().parallel()));
+        Assertions.assertTrue(list.addAll(List.of(2000, 2001).iterator()));
+        Assertions.assertTrue(list.addAll(Stream.of(2002).filter(i -> i > 0).spliterator()));
+        Assertions.assertFalse(list.addAll(Stream.<Integer>empty()));
+        Assertions.assertFalse(list.addAll(new ArrayList<Integer>().iterator()));
+        List<Integer> expected = new ArrayList<>(List.of(-1));
+        IntStream.rangeClosed(0, 2002).forEach(expected::add);
+        Assertions.assertEquals(expected, list);
+    }
 }
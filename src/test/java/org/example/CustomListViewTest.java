@@ -0,0 +1,84 @@
+package org.example;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.example.CustomTestAnnotations.*;
+
+class CustomListViewTest {
+
+    private static CustomList<Integer> numbers(int n) {
+        return IntStream.range(0, n).boxed().collect(CustomList.toCustomList());
+    }
+
+    @Test
+    @ThisIsTest
+    void should_compute_mapped_elements_on_demand() {
+        CustomList<Integer> list = numbers(5);
+        int[] calls = {0};
+        CustomListView<String> view = list.mapView(i -> {
+            calls[0]++;
+            return "#" + i;
+        });
+        Assertions.assertEquals(0, calls[0]);
+        Assertions.assertEquals("#3", view.get(3));
+        Assertions.assertEquals(1, calls[0]);
+        Assertions.assertEquals(5, view.size());
+        list.add(5);
+        Assertions.assertEquals("#5", view.get(5));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> view.add("x"));
+    }
+
+    @Test
+    @ThisIsTest
+    void should_fuse_chained_stages_when_materializing() {
+        CustomList<Integer> list = numbers(1000);
+        CustomListView<Integer> view = list.mapView(i -> i * 3)
+                .filterView(i -> i % 2 == 0)
+                .mapView(i -> i + 1)
+                .filterView(i -> i % 5 != 0);
+        List<Integer> expected = IntStream.range(0, 1000).map(i -> i * 3)
+                .filter(i -> i % 2 == 0).map(i -> i + 1).filter(i -> i % 5 != 0)
+                .boxed().collect(Collectors.toList());
+
+        CustomList<Integer> materialized = view.materialize();
+        Assertions.assertEquals(expected, materialized);
+        Assertions.assertEquals(expected.size(), materialized.elementData.length);
+
+        CustomList<Integer> single = list.filterView(i -> i == 5).materialize();
+        Assertions.assertEquals(List.of(5), single);
+        Assertions.assertEquals(1, single.elementData.length);
+        Assertions.assertEquals(1000, list.mapView(i -> i + 1).materialize().elementData.length);
+        Assertions.assertEquals(expected, view);
+        Assertions.assertEquals(expected.size(), view.size());
+        Assertions.assertEquals(expected.get(7), view.get(7));
+        Assertions.assertArrayEquals(expected.toArray(), view.toArray());
+        List<Integer> pushed = new ArrayList<>();
+        view.forEach(pushed::add);
+        Assertions.assertEquals(expected, pushed);
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> view.get(expected.size()));
+    }
+
+    @Test
+    @ThisIsTest
+    void should_zip_and_concat() {
+        CustomList<Integer> list = numbers(4);
+        CustomListView<String> zipped = list.zipView(List.of("a", "b", "c"), (i, s) -> s + i);
+        Assertions.assertEquals(List.of("a0", "b1", "c2"), zipped);
+        Assertions.assertEquals(List.of("a0", "b1", "c2"), zipped.materialize());
+        Assertions.assertEquals("c2", zipped.get(2));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> zipped.get(3));
+
+        CustomListView<Integer> concatenated = list.filterView(i -> i % 2 == 1)
+                .concatView(numbers(3).mapView(i -> i * 10));
+        Assertions.assertEquals(List.of(1, 3, 0, 10, 20), concatenated);
+        Assertions.assertEquals(List.of(1, 3, 0, 10, 20), concatenated.materialize());
+        Assertions.assertEquals(10, concatenated.get(3));
+        Assertions.assertEquals(5, concatenated.size());
+    }
+}
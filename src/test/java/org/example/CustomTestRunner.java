@@ -25,9 +25,9 @@ public class CustomTestRunner {
         List<Class<?>> classes = getClasses(packageName);
 
         for (Class<?> testableClass : classes) {
-            List<Method> beforeEachMethods = new CustomList<>();
-            List<Method> afterEachMethods = new CustomList<>();
-            List<Method> testMethods = new CustomList<>();
+            CustomList<Method> beforeEachMethods = CustomList.pooled();
+            CustomList<Method> afterEachMethods = CustomList.pooled();
+            CustomList<Method> testMethods = CustomList.pooled();
 
             for (Method method : testableClass.getDeclaredMethods()) {
                 if (method.isAnnotationPresent(CustomTestAnnotations.ThisIsArrangeBeforeEach.class)) {
@@ -44,6 +44,9 @@ public class CustomTestRunner {
                 totalTests++;
                 runTest(testMethod, testableClass, beforeEachMethods, afterEachMethods);
             }
+            beforeEachMethods.release();
+            afterEachMethods.release();
+            testMethods.release();
         }
 
         System.out.println("\nTest run complete.");
@@ -0,0 +1,63 @@
+package org.example;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.example.CustomTestAnnotations.*;
+
+class MappedCustomListTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @ThisIsTest
+    void should_persist_elements_across_reopen() throws IOException {
+        Path file = tempDir.resolve("longs.bin");
+        try (MappedCustomList<Long> list = MappedCustomList.open(file, ElementLayout.LONG)) {
+            for (long i = 0; i < 5_000; i++) {
+                list.add(i * 3);
+            }
+            list.set(10L, -1L);
+            list.force();
+        }
+        try (MappedCustomList<Long> list = MappedCustomList.open(file, ElementLayout.LONG)) {
+            Assertions.assertEquals(5_000L, list.longSize());
+            Assertions.assertEquals(-1L, list.get(10L));
+            Assertions.assertEquals(4_999L * 3, list.get(4_999));
+            list.add(42L);
+            Assertions.assertEquals(42L, list.get(5_000L));
+        }
+        Assertions.assertTrue(Files.size(file) >= MappedCustomList.HEADER_BYTES + 5_001L * Long.BYTES);
+    }
+
+    @Test
+    @ThisIsTest
+    void should_behave_like_a_list() throws IOException {
+        try (MappedCustomList<Integer> list = MappedCustomList.open(tempDir.resolve("ints.bin"), ElementLayout.INT)) {
+            list.addAll(List.of(3, 1, 2));
+            Assertions.assertEquals(List.of(3, 1, 2), list);
+            Assertions.assertEquals(1, list.indexOf(1));
+            Assertions.assertThrows(IndexOutOfBoundsException.class, () -> list.get(3L));
+            list.clear();
+            Assertions.assertTrue(list.isEmpty());
+        }
+    }
+
+    @Test
+    @ThisIsTest
+    void should_reject_mismatched_layout_and_closed_access() throws IOException {
+        Path file = tempDir.resolve("doubles.bin");
+        MappedCustomList<Double> list = MappedCustomList.open(file, ElementLayout.DOUBLE);
+        list.add(1.5);
+        list.close();
+        Assertions.assertThrows(IllegalStateException.class, () -> list.get(0));
+        Assertions.assertThrows(IOException.class, () -> MappedCustomList.open(file, ElementLayout.INT));
+    }
+}
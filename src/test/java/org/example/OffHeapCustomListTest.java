@@ -0,0 +1,126 @@
+package org.example;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.BufferPoolMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.example.CustomTestAnnotations.*;
+
+class OffHeapCustomListTest {
+
+    record Point(int x, long y) {
+    }
+
+    static final ElementLayout<Point> POINT = new ElementLayout<>() {
+        @Override
+        public int byteSize() {
+            return Integer.BYTES + Long.BYTES;
+        }
+
+        @Override
+        public Point read(ByteBuffer buffer, int offset) {
+            return new Point(buffer.getInt(offset), buffer.getLong(offset + Integer.BYTES));
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, int offset, Point value) {
+            buffer.putInt(offset, value.x()).putLong(offset + Integer.BYTES, value.y());
+        }
+    };
+
+    @Test
+    @ThisIsTest
+    void should_add_and_get_elements() {
+        try (OffHeapCustomList<Long> list = new OffHeapCustomList<>(ElementLayout.LONG)) {
+            for (long i = 0; i < 10_000; i++) {
+                list.add(i * i);
+            }
+            Assertions.assertEquals(10_000, list.size());
+            Assertions.assertEquals(9_999L * 9_999L, list.get(9_999));
+            Assertions.assertTrue(list.nativeBytes() >= 10_000L * Long.BYTES);
+            Assertions.assertThrows(IndexOutOfBoundsException.class, () -> list.get(10_000));
+        }
+    }
+
+    @Test
+    @ThisIsTest
+    void should_insert_and_remove_in_the_middle() {
+        try (OffHeapCustomList<Integer> list = new OffHeapCustomList<>(ElementLayout.INT, 0)) {
+            list.addAll(List.of(1, 2, 4, 5));
+            list.add(2, 3);
+            Assertions.assertEquals(List.of(1, 2, 3, 4, 5), list);
+            Assertions.assertEquals(1, list.remove(0));
+            Assertions.assertEquals(5, list.remove(3));
+            Assertions.assertEquals(List.of(2, 3, 4), list);
+        }
+    }
+
+    @Test
+    @ThisIsTest
+    void should_store_fixed_layout_records() {
+        try (OffHeapCustomList<Point> list = new OffHeapCustomList<>(POINT)) {
+            list.add(new Point(1, 10L));
+            list.add(new Point(2, 20L));
+            Assertions.assertEquals(new Point(1, 10L), list.set(0, new Point(3, 30L)));
+            Assertions.assertEquals(List.of(new Point(3, 30L), new Point(2, 20L)), list);
+            list.trimToSize();
+            Assertions.assertEquals(2L * POINT.byteSize(), list.nativeBytes());
+        }
+    }
+
+    @Test
+    @ThisIsTest
+    void should_reject_access_after_close() {
+        OffHeapCustomList<Integer> list = new OffHeapCustomList<>(ElementLayout.INT);
+        list.add(1);
+        list.close();
+        Assertions.assertTrue(list.isClosed());
+        Assertions.assertThrows(IllegalStateException.class, () -> list.get(0));
+        Assertions.assertThrows(IllegalStateException.class, () -> list.add(2));
+        Assertions.assertThrows(IllegalStateException.class, list::size);
+    }
+
+    @Test
+    @ThisIsTest
+    void should_fail_fast_on_concurrent_modification() {
+        try (OffHeapCustomList<Integer> list = new OffHeapCustomList<>(ElementLayout.INT)) {
+            list.addAll(List.of(1, 2, 3));
+            Iterator<Integer> it = list.iterator();
+            it.next();
+            list.add(4);
+            Assertions.assertThrows(ConcurrentModificationException.class, it::next);
+            Iterator<Integer> it2 = list.iterator();
+            it2.next();
+            list.remove(0);
+            Assertions.assertThrows(ConcurrentModificationException.class, it2::next);
+        }
+    }
+
+    @Test
+    @ThisIsTest
+    void should_free_native_memory_on_close() {
+        Assumptions.assumeTrue(OffHeapCustomList.freesEagerly());
+        BufferPoolMXBean direct = ManagementFactory.getPlatformMXBeans(BufferPoolMXBean.class).stream()
+                .filter(pool -> pool.getName().equals("direct"))
+                .findFirst()
+                .orElseThrow();
+        long before = direct.getMemoryUsed();
+        OffHeapCustomList<Long> list = new OffHeapCustomList<>(ElementLayout.LONG, 1 << 20);
+        for (long i = 0; i < (1 << 21); i++) {
+            list.add(i);
+        }
+        // other buffers may be freed concurrently, but none are allocated
+        long bytes = list.nativeBytes();
+        Assertions.assertTrue(direct.getMemoryUsed() <= before + bytes, "grown-away buffer not freed");
+        long beforeClose = direct.getMemoryUsed();
+        list.close();
+        Assertions.assertTrue(direct.getMemoryUsed() <= beforeClose - bytes, "buffer not freed on close");
+    }
+}
@@ -0,0 +1,85 @@
+package org.example;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.example.CustomTestAnnotations.*;
+
+class PersistentCustomListTest {
+
+    @Test
+    @ThisIsTest
+    void should_keep_old_versions_unchanged() {
+        PersistentCustomList<Integer> v0 = PersistentCustomList.empty();
+        PersistentCustomList<Integer> v1 = v0.plus(1).plus(2).plus(3);
+        PersistentCustomList<Integer> v2 = v1.with(1, 20);
+        PersistentCustomList<Integer> v3 = v2.with(3, 4);
+        Assertions.assertEquals(List.of(), v0);
+        Assertions.assertEquals(List.of(1, 2, 3), v1);
+        Assertions.assertEquals(List.of(1, 20, 3), v2);
+        Assertions.assertEquals(List.of(1, 20, 3, 4), v3);
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> v1.add(4));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> v1.with(5, 0));
+    }
+
+    @Test
+    @ThisIsTest
+    void should_grow_through_several_tree_levels() {
+        PersistentCustomList<Integer> list = PersistentCustomList.empty();
+        List<PersistentCustomList<Integer>> versions = new ArrayList<>();
+        int n = 40_000;
+        for (int i = 0; i < n; i++) {
+            list = list.plus(i);
+            if (i % 997 == 0) {
+                versions.add(list);
+            }
+        }
+        Assertions.assertEquals(n, list.size());
+        for (int i = 0; i < n; i += 31) {
+            Assertions.assertEquals(i, list.get(i));
+        }
+        PersistentCustomList<Integer> changed = list.with(12_345, -1);
+        Assertions.assertEquals(-1, changed.get(12_345));
+        Assertions.assertEquals(12_345, list.get(12_345));
+        for (PersistentCustomList<Integer> version : versions) {
+            int last = version.size() - 1;
+            Assertions.assertEquals(last, version.get(last));
+        }
+    }
+
+    @Test
+    @ThisIsTest
+    void should_build_and_snapshot_with_builder() {
+        PersistentCustomList.Builder<Integer> builder = PersistentCustomList.builder();
+        for (int i = 0; i < 5_000; i++) {
+            builder.add(i);
+        }
+        PersistentCustomList<Integer> first = builder.snapshot();
+        builder.set(10, -10).set(4_999, -4_999).add(5_000);
+        PersistentCustomList<Integer> second = builder.snapshot();
+        Assertions.assertEquals(5_000, first.size());
+        Assertions.assertEquals(10, first.get(10));
+        Assertions.assertEquals(4_999, first.get(4_999));
+        Assertions.assertEquals(5_001, second.size());
+        Assertions.assertEquals(-10, second.get(10));
+        Assertions.assertEquals(-4_999, second.get(4_999));
+        Assertions.assertEquals(5_000, builder.get(5_000));
+    }
+
+    @Test
+    @ThisIsTest
+    void should_convert_custom_list() {
+        CustomList<String> list = new CustomList<>();
+        for (int i = 0; i < 100; i++) {
+            list.add("e" + i);
+        }
+        PersistentCustomList<String> persistent = list.toPersistent();
+        list.set(0, "changed");
+        Assertions.assertEquals("e0", persistent.get(0));
+        Assertions.assertEquals(list.subList(1, 100), persistent.subList(1, 100));
+        Assertions.assertEquals(persistent, persistent.toBuilder().snapshot());
+    }
+}
@@ -0,0 +1,214 @@
+package org.example;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.example.CustomTestAnnotations.*;
+
+class PrimitiveCustomListTest {
+
+    @Test
+    @ThisIsTest
+    void should_add_and_get_ints() {
+        IntCustomList list = new IntCustomList();
+        for (int i = 0; i < 1000; i++) {
+            list.add(i * 2);
+        }
+        Assertions.assertEquals(1000, list.size());
+        Assertions.assertEquals(0, list.get(0));
+        Assertions.assertEquals(1998, list.get(999));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> list.get(1000));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> list.get(-1));
+    }
+
+    @Test
+    @ThisIsTest
+    void should_grow_like_custom_list() {
+        IntCustomList list = new IntCustomList();
+        Assertions.assertEquals(0, list.elementData.length);
+        list.add(1);
+        Assertions.assertEquals(10, list.elementData.length);
+        for (int i = 0; i < 10; i++) {
+            list.add(i);
+        }
+        Assertions.assertEquals(15, list.elementData.length);
+    }
+
+    @Test
+    @ThisIsTest
+    void should_insert_set_and_remove_ints() {
+        IntCustomList list = IntCustomList.of(1, 2, 4);
+        list.add(2, 3);
+        Assertions.assertEquals(IntCustomList.of(1, 2, 3, 4), list);
+        Assertions.assertEquals(3, list.set(2, 30));
+        Assertions.assertEquals(30, list.removeAt(2));
+        Assertions.assertEquals("[1, 2, 4]", list.toString());
+        Assertions.assertEquals(2, list.indexOf(4));
+        Assertions.assertEquals(-1, list.indexOf(30));
+    }
+
+    @Test
+    @ThisIsTest
+    void should_expose_boxed_view() {
+        IntCustomList list = IntCustomList.of(5, 6, 7);
+        List<Integer> boxed = list.boxed();
+        Assertions.assertEquals(List.of(5, 6, 7), boxed);
+        Assertions.assertEquals(new ArrayList<>(boxed).hashCode(), list.hashCode());
+        boxed.set(0, 50);
+        boxed.add(8);
+        Assertions.assertEquals(50, list.get(0));
+        Assertions.assertEquals(4, list.size());
+        Assertions.assertEquals(3, boxed.indexOf(8));
+        Assertions.assertEquals(-1, boxed.indexOf("8"));
+    }
+
+    @Test
+    @ThisIsTest
+    void should_store_longs_and_doubles() {
+        LongCustomList longs = new LongCustomList();
+        longs.add(Long.MAX_VALUE);
+        longs.add(0, Long.MIN_VALUE);
+        Assertions.assertEquals(Long.MIN_VALUE, longs.get(0));
+        Assertions.assertEquals(1, longs.lastIndexOf(Long.MAX_VALUE));
+
+        DoubleCustomList doubles = DoubleCustomList.of(1.5, Double.NaN, -0.0);
+        Assertions.assertEquals(1, doubles.indexOf(Double.NaN));
+        Assertions.assertEquals(-1, doubles.indexOf(0.0));
+        Assertions.assertEquals(2, doubles.indexOf(-0.0));
+        Assertions.assertEquals(List.of(1.5, Double.NaN, -0.0), doubles.boxed());
+    }
+
+    @AfterEach
+    void restoreKernels() {
+        PrimitiveKernels.setVectorized(true);
+    }
+
+    @Test
+    @ThisIsTest
+    void should_give_same_results_with_and_without_vector_api() {
+        Random random = new Random(11);
+        int[] ints = new int[1021];
+        long[] longs = new long[ints.length];
+        double[] doubles = new double[ints.length];
+        for (int i = 0; i < ints.length; i++) {
+            ints[i] = random.nextInt(64) - 32;
+            longs[i] = random.nextLong(64) - 32;
+            doubles[i] = random.nextInt(64) - 32;
+        }
+        doubles[517] = Double.NaN;
+        doubles[3] = -0.0;
+        List<Object> vectorized = kernelResults(true, ints, longs, doubles);
+        Assertions.assertEquals(PrimitiveKernels.isVectorAvailable(), PrimitiveKernels.isVectorized());
+        List<Object> scalar = kernelResults(false, ints, longs, doubles);
+        Assertions.assertFalse(PrimitiveKernels.isVectorized());
+        Assertions.assertEquals(scalar, vectorized);
+    }
+
+    private static List<Object> kernelResults(boolean vectorized, int[] ints, long[] longs, double[] doubles) {
+        PrimitiveKernels.setVectorized(vectorized);
+        IntCustomList intList = IntCustomList.of(ints);
+        LongCustomList longList = LongCustomList.of(longs);
+        DoubleCustomList doubleList = DoubleCustomList.of(doubles);
+        List<Object> results = new ArrayList<>();
+        for (int value = -33; value <= 32; value++) {
+            results.add(intList.indexOf(value));
+            results.add(intList.count(value));
+            results.add(longList.indexOf(value));
+            results.add(longList.count(value));
+            results.add(doubleList.indexOf(value));
+            results.add(doubleList.count(value));
+        }
+        results.add(doubleList.indexOf(Double.NaN));
+        results.add(doubleList.indexOf(-0.0));
+        results.add(intList.sum());
+        results.add(intList.min());
+        results.add(intList.max());
+        results.add(longList.sum());
+        results.add(longList.min());
+        results.add(longList.max());
+        results.add(doubleList.min());
+        results.add(doubleList.max());
+        results.add(intList.equals(IntCustomList.of(ints)));
+        results.add(longList.equals(LongCustomList.of(longs)));
+        results.add(doubleList.equals(DoubleCustomList.of(doubles)));
+        intList.fill(5);
+        results.add(intList.count(5));
+        return results;
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    @ThisIsTest
+    void should_search_and_aggregate_ints(boolean vectorized) {
+        PrimitiveKernels.setVectorized(vectorized);
+        Random random = new Random(3);
+        IntCustomList list = new IntCustomList();
+        long sum = 0;
+        int count = 0, min = Integer.MAX_VALUE, max = Integer.MIN_VALUE;
+        for (int i = 0; i < 1003; i++) {
+            int value = i == 700 ? -5 : random.nextInt(Integer.MAX_VALUE);
+            list.add(value);
+            sum += value;
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+            if (value == -5)
+                count++;
+        }
+        list.add(-5);
+        Assertions.assertEquals(700, list.indexOf(-5));
+        Assertions.assertEquals(count + 1, list.count(-5));
+        Assertions.assertEquals(-1, list.indexOf(-6));
+        Assertions.assertEquals(sum - 5, list.sum());
+        Assertions.assertEquals(-5, list.min());
+        Assertions.assertEquals(max, list.max());
+        Assertions.assertEquals(list, IntCustomList.of(list.toArray()));
+        IntCustomList other = IntCustomList.of(list.toArray());
+        other.set(1001, 0);
+        Assertions.assertNotEquals(list, other);
+        list.fill(7);
+        Assertions.assertEquals(list.size(), list.count(7));
+        Assertions.assertThrows(NoSuchElementException.class, () -> new IntCustomList().min());
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    @ThisIsTest
+    void should_search_and_aggregate_longs_and_doubles(boolean vectorized) {
+        PrimitiveKernels.setVectorized(vectorized);
+        LongCustomList longs = new LongCustomList();
+        DoubleCustomList doubles = new DoubleCustomList();
+        for (int i = 0; i < 101; i++) {
+            longs.add(i - 50L);
+            doubles.add(i * 0.5);
+        }
+        Assertions.assertEquals(60, longs.indexOf(10L));
+        Assertions.assertEquals(0, longs.sum());
+        Assertions.assertEquals(-50, longs.min());
+        Assertions.assertEquals(50, longs.max());
+        Assertions.assertEquals(2525.0, doubles.sum());
+        Assertions.assertEquals(50.0, doubles.max());
+
+        doubles.set(0, -0.0);
+        doubles.set(97, Double.NaN);
+        Assertions.assertEquals(-1, doubles.indexOf(0.0));
+        Assertions.assertEquals(0, doubles.indexOf(-0.0));
+        Assertions.assertEquals(97, doubles.indexOf(Double.NaN));
+        Assertions.assertEquals(1, doubles.count(Double.longBitsToDouble(0x7ff8000000000001L)));
+        Assertions.assertTrue(Double.isNaN(doubles.min()));
+        DoubleCustomList copy = DoubleCustomList.of(doubles.toArray());
+        copy.set(97, Double.longBitsToDouble(0x7ff8000000000001L));
+        Assertions.assertEquals(doubles, copy);
+        copy.set(0, 0.0);
+        Assertions.assertNotEquals(doubles, copy);
+        doubles.fill(1.5);
+        Assertions.assertEquals(151.5, doubles.sum());
+    }
+}
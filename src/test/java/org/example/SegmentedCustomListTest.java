@@ -0,0 +1,112 @@
+package org.example;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.example.CustomTestAnnotations.*;
+
+class SegmentedCustomListTest {
+
+    @Test
+    @ThisIsTest
+    void should_add_across_chunks_without_copying_them() {
+        SegmentedCustomList<Integer> list = new SegmentedCustomList<>(4);
+        list.add(0);
+        Object[] firstChunk = list.directory[0];
+        for (int i = 1; i < 100; i++) {
+            list.add(i);
+        }
+        Assertions.assertSame(firstChunk, list.directory[0]);
+        Assertions.assertEquals(100, list.size());
+        Assertions.assertEquals(100L, list.longSize());
+        Assertions.assertEquals(112L, list.capacity());
+        Assertions.assertEquals(57, list.get(57L));
+        Assertions.assertEquals(99, list.get(99));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> list.get(100L));
+    }
+
+    @Test
+    @ThisIsTest
+    void should_set_and_iterate_in_order() {
+        SegmentedCustomList<String> list = new SegmentedCustomList<>(2);
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            list.add("e" + i);
+            expected.add("e" + i);
+        }
+        Assertions.assertEquals("e5", list.set(5L, "x"));
+        expected.set(5, "x");
+        Assertions.assertEquals(expected, list);
+        List<String> visited = new ArrayList<>();
+        list.forEach(visited::add);
+        Assertions.assertEquals(expected, visited);
+    }
+
+    @Test
+    @ThisIsTest
+    void should_remove_last_and_reuse_chunks() {
+        SegmentedCustomList<Integer> list = new SegmentedCustomList<>(2);
+        for (int i = 0; i < 9; i++) {
+            list.add(i);
+        }
+        Object[] lastChunk = list.directory[2];
+        Assertions.assertEquals(8, list.removeLast());
+        Assertions.assertEquals(8L, list.capacity());
+        list.add(80);
+        Assertions.assertSame(lastChunk, list.directory[2]);
+        list.clear();
+        Assertions.assertEquals(0L, list.capacity());
+        Assertions.assertThrows(NoSuchElementException.class, list::removeLast);
+    }
+
+    @Test
+    @ThisIsTest
+    void should_insert_and_remove_across_chunks() {
+        Random random = new Random(7);
+        SegmentedCustomList<Integer> list = new SegmentedCustomList<>(2);
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            if (expected.isEmpty() || random.nextInt(3) > 0) {
+                int index = random.nextInt(expected.size() + 1);
+                list.add(index, i);
+                expected.add(index, i);
+            } else {
+                int index = random.nextInt(expected.size());
+                Assertions.assertEquals(expected.remove(index), list.remove(index));
+            }
+            Assertions.assertEquals(expected, list);
+            Assertions.assertEquals((expected.size() + 3) / 4 * 4L, list.capacity());
+        }
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> list.add(list.size() + 1, 0));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> list.remove(list.size()));
+    }
+
+    @Test
+    @ThisIsTest
+    void should_remove_through_iterator() {
+        SegmentedCustomList<Integer> list = new SegmentedCustomList<>(2);
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            list.add(i);
+            if (i % 3 != 0) {
+                expected.add(i);
+            }
+        }
+        for (Iterator<Integer> it = list.iterator(); it.hasNext(); ) {
+            if (it.next() % 3 == 0) {
+                it.remove();
+            }
+        }
+        Assertions.assertEquals(expected, list);
+        Iterator<Integer> it = list.iterator();
+        Assertions.assertThrows(IllegalStateException.class, it::remove);
+        list.removeIf(e -> e > 10);
+        Assertions.assertEquals(List.of(1, 2, 4, 5, 7, 8, 10), list);
+    }
+}
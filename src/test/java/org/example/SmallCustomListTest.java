@@ -0,0 +1,81 @@
+package org.example;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import static org.example.CustomTestAnnotations.*;
+
+class SmallCustomListTest {
+
+    @Test
+    @ThisIsTest
+    void should_keep_small_lists_inline() {
+        SmallCustomList<String> list = new SmallCustomList<>();
+        list.add("b");
+        list.add(0, "a");
+        list.add("d");
+        list.add(2, "c");
+        Assertions.assertNull(list.elementData);
+        Assertions.assertEquals(List.of("a", "b", "c", "d"), list);
+        Assertions.assertEquals("c", list.set(2, "x"));
+        Assertions.assertEquals("a", list.remove(0));
+        Assertions.assertEquals(List.of("b", "x", "d"), list);
+        Assertions.assertEquals(1, list.indexOf("x"));
+        Assertions.assertNull(list.elementData);
+    }
+
+    @Test
+    @ThisIsTest
+    void should_inflate_on_overflow_and_deflate_on_clear() {
+        SmallCustomList<Integer> list = new SmallCustomList<>(List.of(1, 2, 3, 4));
+        Assertions.assertNull(list.elementData);
+        list.add(5);
+        Assertions.assertEquals(6, list.elementData.length);
+        Assertions.assertEquals(List.of(1, 2, 3, 4, 5), list);
+        Iterator<Integer> it = list.iterator();
+        it.next();
+        it.remove();
+        Assertions.assertEquals(List.of(2, 3, 4, 5), list);
+        list.clear();
+        Assertions.assertNull(list.elementData);
+        Assertions.assertTrue(list.isEmpty());
+    }
+
+    @Test
+    @ThisIsTest
+    void should_behave_like_array_list() {
+        Random random = new Random(5);
+        SmallCustomList<Integer> list = new SmallCustomList<>();
+        List<Integer> expected = new ArrayList<>();
+        for (int step = 0; step < 2_000; step++) {
+            int op = random.nextInt(6);
+            if (op < 2 || expected.isEmpty()) {
+                list.add(step);
+                expected.add(step);
+            } else if (op == 2) {
+                int i = random.nextInt(expected.size() + 1);
+                list.add(i, step);
+                expected.add(i, step);
+            } else if (op == 3) {
+                int i = random.nextInt(expected.size());
+                Assertions.assertEquals(expected.set(i, -step), list.set(i, -step));
+            } else if (op == 4) {
+                int i = random.nextInt(expected.size());
+                Assertions.assertEquals(expected.remove(i), list.remove(i));
+            } else if (random.nextInt(10) == 0) {
+                list.clear();
+                expected.clear();
+            }
+            Assertions.assertEquals(expected, list);
+        }
+        List<Integer> visited = new ArrayList<>();
+        list.forEach(visited::add);
+        Assertions.assertEquals(expected, visited);
+        Assertions.assertArrayEquals(expected.toArray(), list.toArray());
+    }
+}
@@ -0,0 +1,102 @@
+package org.example;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.example.CustomTestAnnotations.*;
+
+class SortedCustomListTest {
+
+    @Test
+    @ThisIsTest
+    void should_insert_in_sorted_position() {
+        SortedCustomList<Integer> list = new SortedCustomList<>();
+        for (int value : new int[]{5, 1, 4, 1, 3}) {
+            list.add(value);
+        }
+        Assertions.assertEquals(List.of(1, 1, 3, 4, 5), list);
+        Assertions.assertEquals(0, list.indexOf(1));
+        Assertions.assertEquals(1, list.lastIndexOf(1));
+        Assertions.assertEquals(-1, list.indexOf(2));
+        Assertions.assertTrue(list.contains(4));
+        Assertions.assertTrue(list.remove((Integer) 1));
+        Assertions.assertFalse(list.remove((Integer) 2));
+        Assertions.assertEquals(List.of(1, 3, 4, 5), list);
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> list.add(0, 9));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> list.set(0, 9));
+    }
+
+    @Test
+    @ThisIsTest
+    void should_keep_insertion_order_of_equal_elements() {
+        SortedCustomList<String> list = new SortedCustomList<>(Comparator.comparingInt(String::length));
+        list.add("bb");
+        list.add("a");
+        list.add("cc");
+        list.addAll(List.of("dd", "e", "fff"));
+        Assertions.assertEquals(List.of("a", "e", "bb", "cc", "dd", "fff"), list);
+        Assertions.assertEquals(2, list.indexOf("xx"));
+        Assertions.assertEquals(4, list.lastIndexOf("xx"));
+    }
+
+    @Test
+    @ThisIsTest
+    void should_merge_bulk_additions() {
+        Random random = new Random(4);
+        SortedCustomList<Integer> list = new SortedCustomList<>(Comparator.reverseOrder());
+        List<Integer> expected = new ArrayList<>();
+        for (int round = 0; round < 20; round++) {
+            List<Integer> batch = new ArrayList<>();
+            for (int i = random.nextInt(50); i > 0; i--) {
+                batch.add(random.nextInt(100));
+            }
+            if (round % 2 == 0) {
+                batch.sort(Comparator.reverseOrder());
+            }
+            list.addAll(batch);
+            expected.addAll(batch);
+            expected.sort(Comparator.reverseOrder());
+            Assertions.assertEquals(expected, list);
+        }
+    }
+
+    @Test
+    @ThisIsTest
+    void should_leave_list_unchanged_when_bulk_comparison_fails() {
+        SortedCustomList<Integer> list = new SortedCustomList<>();
+        Assertions.assertThrows(NullPointerException.class, () -> list.addAll(Arrays.asList((Integer) null)));
+        Assertions.assertTrue(list.isEmpty());
+
+        list.addAll(List.of(1, 3, 5, 7));
+        Assertions.assertThrows(NullPointerException.class, () -> list.addAll(Arrays.asList(2, null, 6)));
+        Assertions.assertEquals(List.of(1, 3, 5, 7), list);
+
+        SortedCustomList<Integer> picky = new SortedCustomList<>((a, b) -> {
+            if (a == 13 || b == 13) {
+                throw new IllegalArgumentException("unlucky");
+            }
+            return Integer.compare(a, b);
+        });
+        picky.addAll(List.of(2, 4, 6, 8));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> picky.addAll(List.of(9, 1, 13, 5)));
+        Assertions.assertEquals(List.of(2, 4, 6, 8), picky);
+    }
+
+    @Test
+    @ThisIsTest
+    void should_view_ranges() {
+        SortedCustomList<Integer> list = new SortedCustomList<>(List.of(7, 2, 9, 4, 4, 1), null);
+        Assertions.assertEquals(List.of(1, 2), list.headRange(4));
+        Assertions.assertEquals(List.of(4, 4, 7, 9), list.tailRange(4));
+        Assertions.assertEquals(List.of(2, 4, 4), list.range(2, 7));
+        Assertions.assertEquals(List.of(), list.range(5, 6));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> list.headRange(4).clear());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> list.range(7, 2));
+    }
+}